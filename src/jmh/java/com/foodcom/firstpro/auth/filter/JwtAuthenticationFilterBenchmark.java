@@ -0,0 +1,88 @@
+package com.foodcom.firstpro.auth.filter;
+
+import com.foodcom.firstpro.auth.util.JwtTokenProvider;
+import com.foodcom.firstpro.auth.util.RejectedTokenCache;
+import com.foodcom.firstpro.auth.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용.
+ * <p>
+ * - legacyTwoParses: 기존 경로 (validateToken + getAuthentication, 토큰 두 번 파싱)
+ * - filter (cacheEnabled=false): 한 번만 파싱
+ * - filter (cacheEnabled=true): 검증된 토큰 캐시 적중
+ * - invalidToken: 서명이 틀린 토큰 반복 (cacheEnabled=true면 Negative Cache 적중)
+ * <p>
+ * 실행: ./gradlew jmh --args="JwtAuthenticationFilterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String invalidToken;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setup() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        jwtTokenProvider = new JwtTokenProvider(Base64.getEncoder().encodeToString(secret),
+                1000L * 60 * 30, 1000L * 60 * 60 * 24 * 7);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(jwtTokenProvider,
+                new VerifiedTokenCache(meterRegistry, cacheEnabled, 10_000),
+                new RejectedTokenCache(meterRegistry, cacheEnabled, 10_000, Duration.ofMinutes(5)));
+        token = jwtTokenProvider.generateToken("user", 1L).getAccessToken();
+        invalidToken = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public Authentication legacyTwoParses() {
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getAuthentication(token) : null;
+    }
+
+    @Benchmark
+    public Authentication filter() throws Exception {
+        return doFilter(token);
+    }
+
+    @Benchmark
+    public Authentication invalidToken() throws Exception {
+        return doFilter(invalidToken);
+    }
+
+    private Authentication doFilter(String bearerToken) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer " + bearerToken);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
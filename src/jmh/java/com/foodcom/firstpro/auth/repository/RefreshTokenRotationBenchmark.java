@@ -0,0 +1,130 @@
+package com.foodcom.firstpro.auth.repository;
+
+import com.foodcom.firstpro.auth.domain.RefreshToken;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.data.repository.CrudRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 재발급 시 저장소 교체 비용 (Redis 필요).
+ * <p>
+ * - legacyRepository: 기존 경로 (findById + delete + save, tokenValue 보조 인덱스 포함)
+ * - luaRotation: RefreshTokenStore (Lua Compare-And-Swap 한 번)
+ * <p>
+ * 실행: ./gradlew jmh --args="RefreshTokenRotationBenchmark -jvmArgs -Dredis.host=localhost -jvmArgs -Dredis.port=6379"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RefreshTokenRotationBenchmark {
+
+    private LettuceConnectionFactory connectionFactory;
+    private LegacyRefreshTokenRepository legacyRepository;
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
+
+    @Setup
+    public void setup() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"), Integer.getInteger("redis.port", 6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        RedisKeyValueTemplate keyValueTemplate = new RedisKeyValueTemplate(
+                new RedisKeyValueAdapter(redisTemplate, mappingContext), mappingContext);
+        RedisRepositoryFactory repositoryFactory = new RedisRepositoryFactory(keyValueTemplate);
+
+        legacyRepository = repositoryFactory.getRepository(LegacyRefreshTokenRepository.class);
+        refreshTokenRepository = repositoryFactory.getRepository(RefreshTokenRepository.class);
+        refreshTokenStore = new RefreshTokenStore(redisTemplate, Duration.ofSeconds(10));
+    }
+
+    @TearDown
+    public void tearDown() {
+        legacyRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        connectionFactory.destroy();
+    }
+
+    // 스레드마다 다른 사용자 (같은 키 경합 제외)
+    @State(Scope.Thread)
+    public static class Session {
+
+        private final String loginId = "bench-" + UUID.randomUUID();
+        private String legacyToken;
+        private String token;
+
+        @Setup
+        public void setup(RefreshTokenRotationBenchmark benchmark) {
+            legacyToken = UUID.randomUUID().toString();
+            benchmark.legacyRepository.save(new LegacyRefreshToken(loginId, legacyToken));
+
+            token = UUID.randomUUID().toString();
+            benchmark.refreshTokenRepository.save(RefreshToken.builder().loginId(loginId).tokenValue(token).build());
+        }
+    }
+
+    @Benchmark
+    public boolean legacyRepository(Session session) {
+        LegacyRefreshToken stored = legacyRepository.findById(session.loginId).orElseThrow();
+        if (!stored.getTokenValue().equals(session.legacyToken)) {
+            return false;
+        }
+
+        String next = UUID.randomUUID().toString();
+        legacyRepository.delete(stored);
+        legacyRepository.save(new LegacyRefreshToken(session.loginId, next));
+        session.legacyToken = next;
+        return true;
+    }
+
+    @Benchmark
+    public boolean luaRotation(Session session) {
+        String next = UUID.randomUUID().toString();
+        boolean rotated = refreshTokenStore.rotate(session.loginId, session.token, next) == RefreshTokenStore.RotationResult.ROTATED;
+        session.token = next;
+        return rotated;
+    }
+
+    // 변경 전 엔티티 (tokenValue 보조 인덱스 포함)
+    @RedisHash(value = "refreshTokenLegacy", timeToLive = RefreshToken.TIME_TO_LIVE_SECONDS)
+    public static class LegacyRefreshToken {
+
+        @Id
+        private final String loginId;
+
+        @Indexed
+        private final String tokenValue;
+
+        public LegacyRefreshToken(String loginId, String tokenValue) {
+            this.loginId = loginId;
+            this.tokenValue = tokenValue;
+        }
+
+        public String getTokenValue() {
+            return tokenValue;
+        }
+    }
+
+    public interface LegacyRefreshTokenRepository extends CrudRepository<LegacyRefreshToken, String> {
+    }
+}
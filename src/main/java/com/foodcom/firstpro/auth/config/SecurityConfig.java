@@ -3,7 +3,14 @@ package com.foodcom.firstpro.auth.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.foodcom.firstpro.auth.filter.JwtAuthenticationFilter;
 import com.foodcom.firstpro.auth.util.JwtTokenProvider;
+import com.foodcom.firstpro.auth.util.RejectedTokenCache;
+import com.foodcom.firstpro.auth.util.VerifiedTokenCache;
 import com.foodcom.firstpro.controller.advice.GlobalExceptionHandler;
+import com.foodcom.firstpro.ratelimit.LocalRateLimiter;
+import com.foodcom.firstpro.ratelimit.RateLimitFilter;
+import com.foodcom.firstpro.ratelimit.RateLimitProperties;
+import com.foodcom.firstpro.ratelimit.RedisRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +18,6 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -20,7 +26,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
         private final JwtTokenProvider jwtTokenProvider;
+        private final VerifiedTokenCache verifiedTokenCache;
+        private final RejectedTokenCache rejectedTokenCache;
         private final ObjectMapper objectMapper;
+        private final RateLimitProperties rateLimitProperties;
+        private final LocalRateLimiter localRateLimiter;
+        private final RedisRateLimiter redisRateLimiter;
+        private final MeterRegistry meterRegistry;
 
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -65,6 +77,8 @@ public class SecurityConfig {
                                                 .requestMatchers("/actuator/**").permitAll() // Cloud Run Health Check
                                                 .requestMatchers(HttpMethod.GET, "/posts", "/posts/**").permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/posts", "/posts/**").permitAll()
+                                                .requestMatchers(HttpMethod.GET, "/files/**").permitAll() // 로컬 저장소 파일 (storage.backend=local)
+                                                .requestMatchers(HttpMethod.PUT, "/files/**").permitAll() // 서명된 업로드 URL (컨트롤러에서 서명 검증)
                                                 .requestMatchers(
                                                                 "/login",
                                                                 "/auth/reissue",
@@ -78,13 +92,14 @@ public class SecurityConfig {
                                                 .anyRequest().authenticated())
 
                                 .addFilterBefore(
-                                                new JwtAuthenticationFilter(jwtTokenProvider),
-                                                UsernamePasswordAuthenticationFilter.class);
-                return http.build();
-        }
+                                                new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache, rejectedTokenCache),
+                                                UsernamePasswordAuthenticationFilter.class)
 
-        @Bean
-        public BCryptPasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+                                // 인증 직후 요청 한도 확인 (사용자 단위 제한을 위해 JWT 필터 다음)
+                                .addFilterAfter(
+                                                new RateLimitFilter(rateLimitProperties, localRateLimiter, redisRateLimiter,
+                                                                meterRegistry, objectMapper),
+                                                JwtAuthenticationFilter.class);
+                return http.build();
         }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.foodcom.firstpro.auth.domain;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 (loginId + 회원 PK).
+ * 토큰의 mid 클레임으로 만들어지므로 서비스에서 회원을 다시 조회하지 않고 FK 참조를 만들 수 있다.
+ */
+@Getter
+public class AuthMember extends User {
+
+    // mid 클레임이 없는 이전 토큰이면 null
+    private final Long memberId;
+
+    // 로그인 (비밀번호 검증용)
+    public AuthMember(String loginId, String password, Long memberId, Collection<? extends GrantedAuthority> authorities) {
+        super(loginId, password, authorities);
+        this.memberId = memberId;
+    }
+
+    // 토큰 인증
+    public AuthMember(String loginId, Long memberId, Collection<? extends GrantedAuthority> authorities) {
+        this(loginId, "", memberId, authorities);
+    }
+
+    /**
+     * @return principal이 AuthMember면 회원 PK, 아니면 null (loginId로 조회해야 함)
+     */
+    public static Long memberIdOf(Object principal) {
+        return principal instanceof AuthMember authMember ? authMember.getMemberId() : null;
+    }
+}
@@ -5,17 +5,19 @@ import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
 
 @Getter
 @Builder
 @AllArgsConstructor
-@RedisHash(value = "refreshToken", timeToLive = 604800)
+@RedisHash(value = RefreshToken.KEYSPACE, timeToLive = RefreshToken.TIME_TO_LIVE_SECONDS)
 public class RefreshToken {
 
+    public static final String KEYSPACE = "refreshToken";
+    public static final long TIME_TO_LIVE_SECONDS = 604800;
+
     @Id
     private String loginId;
 
-    @Indexed
+    // 값으로 조회하지 않으므로 보조 인덱스(@Indexed) 없음 (저장할 때마다 인덱스 Set 갱신 명령이 추가됨)
     private String tokenValue;
 }
@@ -0,0 +1,8 @@
+package com.foodcom.firstpro.auth.exception;
+
+// 비밀번호 해시 작업 대기열이 가득 찬 경우 (HTTP 503)
+public class HashingUnavailableException extends RuntimeException {
+    public HashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
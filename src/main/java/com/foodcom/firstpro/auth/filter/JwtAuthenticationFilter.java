@@ -1,6 +1,10 @@
 package com.foodcom.firstpro.auth.filter;
 
 import com.foodcom.firstpro.auth.util.JwtTokenProvider;
+import com.foodcom.firstpro.auth.util.RejectedTokenCache;
+import com.foodcom.firstpro.auth.util.TokenDigest;
+import com.foodcom.firstpro.auth.util.TokenVerification;
+import com.foodcom.firstpro.auth.util.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +21,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RejectedTokenCache rejectedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -25,16 +31,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Request Header에서 Access Token 추출
         String token = resolveToken(request);
 
-        // 2. Access Token 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 토큰이 유효하면 SecurityContext에 인증 정보 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 2. Access Token 유효성 검사 (이미 검증한 토큰이면 캐시된 인증 정보 사용)
+        if (token != null) {
+            Authentication authentication = authenticate(token);
+            if (authentication != null) {
+                // 토큰이 유효하면 SecurityContext에 인증 정보 저장
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 서명 검증과 인증 정보 생성을 한 번의 파싱으로 처리한다 (유효하지 않으면 null).
+     * 이미 검증했거나 최근 거절한 토큰은 파싱하지 않는다.
+     */
+    private Authentication authenticate(String token) {
+        String tokenDigest = TokenDigest.of(token);
+
+        Authentication cached = verifiedTokenCache.get(tokenDigest);
+        if (cached != null) {
+            return cached;
+        }
+        if (rejectedTokenCache.get(tokenDigest) != null) {
+            return null;
+        }
+
+        TokenVerification verification = jwtTokenProvider.verifyAccessToken(token);
+        if (!verification.isValid()) {
+            rejectedTokenCache.put(tokenDigest, verification.getRejectReason());
+            return null;
+        }
+
+        Authentication authentication = jwtTokenProvider.toAuthentication(verification.getClaims());
+        verifiedTokenCache.put(tokenDigest, authentication, verification.getClaims().getExpiration());
+        return authentication;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
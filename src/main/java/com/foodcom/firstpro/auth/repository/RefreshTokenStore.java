@@ -0,0 +1,83 @@
+package com.foodcom.firstpro.auth.repository;
+
+import com.foodcom.firstpro.auth.domain.RefreshToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Refresh Token 교체(Rotation)를 Lua 스크립트 한 번으로 처리한다.
+ * findById + delete + save (보조 인덱스 포함 6회 이상 왕복) 대신 한 번의 EVALSHA로 끝나고,
+ * 같은 토큰으로 동시에 재발급을 요청해도 저장된 값과 일치하는 한 요청만 성공한다 (Compare-And-Swap).
+ * <p>
+ * 교체 직후에는 직전 토큰의 SHA-1 다이제스트와 교체 시각을 함께 남긴다.
+ * 유예 시간 안에 직전 토큰이 다시 들어오면 동시 재발급(탭 여러 개, 재시도)으로 보고 저장된 토큰을 건드리지 않으며,
+ * 그보다 오래된 토큰이 재사용될 때만 탈취로 보고 저장된 토큰을 삭제한다.
+ * <p>
+ * {@link RefreshTokenRepository}가 저장한 Hash(refreshToken:{loginId})의 tokenValue 필드를 그대로 사용한다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    // 1: 교체 성공, 0: 유예 시간 안의 직전 토큰 (동시 재발급, 유지), 2: 오래된 토큰 재사용 (탈취 의심, 삭제), -1: 저장된 토큰 없음
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'tokenValue')
+            if not current then
+                return -1
+            end
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            if current == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'tokenValue', ARGV[2],
+                        'previousDigest', redis.sha1hex(ARGV[1]), 'rotatedAt', now)
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                return 1
+            end
+            local previous = redis.call('HGET', KEYS[1], 'previousDigest')
+            local rotatedAt = tonumber(redis.call('HGET', KEYS[1], 'rotatedAt') or '0')
+            if previous == redis.sha1hex(ARGV[1]) and now - rotatedAt <= tonumber(ARGV[4]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            return 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long reuseGraceMillis;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${jwt.refresh.reuse-grace:10s}") Duration reuseGrace) {
+        this.redisTemplate = redisTemplate;
+        this.reuseGraceMillis = reuseGrace.toMillis();
+    }
+
+    /**
+     * 저장된 토큰이 expected와 같을 때만 next로 바꾸고 TTL을 다시 설정한다.
+     */
+    public RotationResult rotate(String loginId, String expected, String next) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(RefreshToken.KEYSPACE + ":" + loginId),
+                expected, next, String.valueOf(RefreshToken.TIME_TO_LIVE_SECONDS), String.valueOf(reuseGraceMillis));
+
+        if (result == null || result < 0) {
+            return RotationResult.MISSING;
+        }
+        if (result == 1) {
+            return RotationResult.ROTATED;
+        }
+        return result == 0 ? RotationResult.MISMATCH : RotationResult.REUSED;
+    }
+
+    public enum RotationResult {
+        ROTATED,
+        // 직전 토큰이 유예 시간 안에 다시 사용됨: 다른 요청이 먼저 교체했을 뿐이므로 저장된 토큰은 유지
+        MISMATCH,
+        // 유예 시간이 지났거나 더 오래된 토큰이 재사용됨: 저장된 토큰 삭제
+        REUSED,
+        MISSING
+    }
+}
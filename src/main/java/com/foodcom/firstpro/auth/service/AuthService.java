@@ -4,6 +4,8 @@ import com.foodcom.firstpro.auth.domain.RefreshToken;
 import com.foodcom.firstpro.auth.dto.TokenInfo;
 import com.foodcom.firstpro.auth.exception.TokenException;
 import com.foodcom.firstpro.auth.repository.RefreshTokenRepository;
+import com.foodcom.firstpro.auth.repository.RefreshTokenStore;
+import com.foodcom.firstpro.auth.repository.RefreshTokenStore.RotationResult;
 import com.foodcom.firstpro.auth.util.JwtTokenProvider;
 import com.foodcom.firstpro.domain.member.MemberLoginDTO;
 import com.foodcom.firstpro.auth.exception.LoginFailureException;
@@ -23,6 +25,7 @@ public class AuthService {
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Transactional
     public TokenInfo login(MemberLoginDTO memberLoginDTO) {
@@ -59,25 +62,22 @@ public class AuthService {
 
         String loginId = jwtTokenProvider.getLoginIdFromToken(refreshToken);
 
-        RefreshToken storedToken = refreshTokenRepository.findById(loginId)
-                .orElseThrow(() -> new TokenException("Refresh Token 정보가 저장소에 없습니다. 재로그인이 필요합니다."));
+        TokenInfo newTokenInfo = jwtTokenProvider.generateToken(loginId, jwtTokenProvider.getMemberIdFromToken(refreshToken));
 
-        if (!storedToken.getTokenValue().equals(refreshToken)) {
-            refreshTokenRepository.delete(storedToken);
+        // 저장된 토큰과 비교 + 교체를 Redis 왕복 한 번으로 원자적으로 처리
+        RotationResult result = refreshTokenStore.rotate(loginId, refreshToken, newTokenInfo.getRefreshToken());
+        if (result == RotationResult.MISSING) {
+            throw new TokenException("Refresh Token 정보가 저장소에 없습니다. 재로그인이 필요합니다.");
+        }
+        if (result == RotationResult.MISMATCH) {
+            // 다른 요청이 방금 먼저 교체한 토큰: 저장된 토큰은 유지되므로 그 요청이 받은 토큰을 그대로 쓰면 된다
+            throw new TokenException("이미 재발급된 Refresh Token입니다. 최신 토큰으로 다시 시도해 주세요.");
+        }
+        if (result == RotationResult.REUSED) {
+            // 오래전에 교체된(탈취 의심) 토큰: 저장된 토큰도 스크립트에서 삭제됨
             throw new TokenException("유효하지 않은 Refresh Token입니다. 재로그인이 필요합니다.");
         }
 
-        TokenInfo newTokenInfo = jwtTokenProvider.generateToken(loginId);
-
-        refreshTokenRepository.delete(storedToken);
-
-        RefreshToken newRefreshToken = RefreshToken.builder()
-                .loginId(loginId)
-                .tokenValue(newTokenInfo.getRefreshToken())
-                .build();
-
-        refreshTokenRepository.save(newRefreshToken);
-
         return newTokenInfo;
     }
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package com.foodcom.firstpro.auth.service;
 
+import com.foodcom.firstpro.auth.domain.AuthMember;
 import com.foodcom.firstpro.domain.member.Member;
 import com.foodcom.firstpro.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,7 +17,7 @@ import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -29,13 +30,28 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("아이디를 찾을 수 없습니다: " + loginId));
     }
 
+    /**
+     * 로그인 성공 시 저장된 해시의 cost가 현재 설정보다 낮으면 DaoAuthenticationProvider가 호출한다.
+     * (새 cost로 다시 해시한 비밀번호)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByLoginId(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("아이디를 찾을 수 없습니다: " + user.getUsername()));
+        member.updatePassword(newPassword);
+
+        return createUserDetails(member);
+    }
+
     private UserDetails createUserDetails(Member member) {
         // 일반 사용자 권한을 일단 ROLE_USER로 설정하기, 음.. 관리자, 사용자 정도로 일단은 구분
         GrantedAuthority grantedAuthority = new SimpleGrantedAuthority("ROLE_USER");
 
-        return new User(
+        return new AuthMember(
                 member.getLoginId(),
                 member.getPassword(),
+                member.getId(),
                 Collections.singleton(grantedAuthority)
         );
     }
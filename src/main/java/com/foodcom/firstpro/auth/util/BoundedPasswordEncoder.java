@@ -0,0 +1,103 @@
+package com.foodcom.firstpro.auth.util;
+
+import com.foodcom.firstpro.auth.exception.HashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+
+/**
+ * BCrypt 해시/검증을 요청 스레드가 아닌 전용 스레드 풀(코어 수 이하)에서 실행한다.
+ * 회원가입/로그인이 몰려도 BCrypt가 쓰는 CPU가 스레드 수로 제한되어 조회 요청이 굶지 않는다.
+ * <p>
+ * - 대기열이 가득 차면 기다리지 않고 {@link HashingUnavailableException} (503).
+ * - 저장된 해시의 cost가 설정값보다 낮으면 {@link #upgradeEncoding}이 true를 돌려주고,
+ *   로그인 성공 시 DaoAuthenticationProvider가 새 cost로 다시 해시해서 저장한다 (UserDetailsPasswordService).
+ * <p>
+ * 지표: password.hash.duration{operation=encode|matches}, password.hash.rejected, password.hash.queue
+ */
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(MeterRegistry meterRegistry,
+                                  @Value("${security.password.bcrypt-strength:10}") int strength,
+                                  @Value("${security.password.hash-threads:0}") int threads,
+                                  @Value("${security.password.hash-queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = meterRegistry.timer("password.hash.duration", "operation", "encode");
+        this.matchesTimer = meterRegistry.timer("password.hash.duration", "operation", "matches");
+        this.rejectedCounter = meterRegistry.counter("password.hash.rejected");
+        meterRegistry.gauge("password.hash.queue", executor.getQueue(), BlockingQueue::size);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    // 해시 계산 없이 cost만 비교
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn(">> 비밀번호 해시 대기열 초과, 요청 거절");
+            throw new HashingUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.foodcom.firstpro.auth.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 다이제스트({@link TokenDigest}) -> 값, 항목마다 만료 시각이 있는 크기 제한 캐시.
+ * 최대 개수에 도달하면 만료된 항목을 먼저 지우고, 그래도 넘치면 90%까지 임의로 비운다
+ * (ConcurrentHashMap 순회 순서는 해시 순이라 사실상 임의 선택).
+ */
+class ExpiringDigestCache<V> {
+
+    private final int maxSize;
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    ExpiringDigestCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // 없거나 만료됐으면 null
+    V get(String tokenDigest) {
+        Entry<V> entry = entries.get(tokenDigest);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(tokenDigest, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    void put(String tokenDigest, V value, long expiresAtMillis) {
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(tokenDigest, new Entry<>(value, expiresAtMillis));
+    }
+
+    Map<String, ?> asMap() {
+        return entries;
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        int target = maxSize * 9 / 10;
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAtMillis;
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
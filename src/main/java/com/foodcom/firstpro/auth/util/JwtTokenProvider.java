@@ -1,6 +1,6 @@
 package com.foodcom.firstpro.auth.util;
 
-import com.foodcom.firstpro.auth.domain.RefreshToken;
+import com.foodcom.firstpro.auth.domain.AuthMember;
 import com.foodcom.firstpro.auth.dto.TokenInfo;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -11,8 +11,6 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -20,23 +18,41 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final long LOG_INTERVAL_MILLIS = 10_000;
+    // 회원 PK 클레임 (서비스에서 회원 조회 없이 FK 참조를 만들기 위해 사용)
+    private static final String MEMBER_ID_CLAIM = "mid";
+
     private final Key key;
+    // 파서는 불변이라 스레드 간 공유 가능 (요청마다 parserBuilder()로 새로 만들지 않음)
+    private final JwtParser parser;
     private final long accessExpiration;
     private final long refreshExpiration;
 
+    private final Map<TokenRejectReason, AtomicLong> lastLoggedAt = new EnumMap<>(TokenRejectReason.class);
+    private final Map<TokenRejectReason, AtomicLong> suppressedLogs = new EnumMap<>(TokenRejectReason.class);
+
     public JwtTokenProvider(@Value("${jwt.secret.key}") String secretKey,
                             @Value("${jwt.access.expiration}") long accessExpiration,
                             @Value("${jwt.refresh.expiration}") long refreshExpiration) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessExpiration = accessExpiration;
         this.refreshExpiration = refreshExpiration;
+
+        for (TokenRejectReason reason : TokenRejectReason.values()) {
+            lastLoggedAt.put(reason, new AtomicLong());
+            suppressedLogs.put(reason, new AtomicLong());
+        }
     }
 
     //로그인 할때 사용
@@ -45,26 +61,29 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        return generateToken(authentication.getName(), authorities);
+        return generateToken(authentication.getName(), AuthMember.memberIdOf(authentication.getPrincipal()), authorities);
     }
 
     //재발급 할때 사용
-    public TokenInfo generateToken(String loginId) {
-        return generateToken(loginId, "ROLE_USER");
+    public TokenInfo generateToken(String loginId, Long memberId) {
+        return generateToken(loginId, memberId, "ROLE_USER");
     }
 
-    private TokenInfo generateToken(String subject, String authorities) {
+    private TokenInfo generateToken(String subject, Long memberId, String authorities) {
         long now = (new Date()).getTime();
 
         String accessToken = Jwts.builder()
                 .setSubject(subject)
                 .claim("auth", authorities)
+                .claim(MEMBER_ID_CLAIM, memberId)
                 .setExpiration(new Date(now + accessExpiration))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
+        // 재발급 시 회원 조회 없이 mid를 이어받기 위해 Refresh Token에도 포함
         String refreshToken = Jwts.builder()
                 .setSubject(subject)
+                .claim(MEMBER_ID_CLAIM, memberId)
                 .setExpiration(new Date(now + refreshExpiration))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
@@ -78,15 +97,41 @@ public class JwtTokenProvider {
 
     // JWT 토큰을 복호화하여 인증 정보 생성
     public Authentication getAuthentication(String accessToken) {
-        // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return toAuthentication(parseClaims(accessToken));
+    }
+
+    /**
+     * 서명/만료를 검증한다. 유효하지 않은 토큰은 예외를 던지지 않고 거절 사유를 돌려준다.
+     * validateToken + getAuthentication 조합과 달리 토큰을 한 번만 파싱한다.
+     */
+    public TokenVerification verify(String token) {
+        try {
+            return TokenVerification.valid(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            TokenRejectReason reason = TokenRejectReason.of(e);
+            logRejected(reason, e);
+            return TokenVerification.rejected(reason);
+        }
+    }
+
+    // Access Token 검증 (권한 정보가 없는 토큰, 예: Refresh Token도 거절)
+    public TokenVerification verifyAccessToken(String token) {
+        TokenVerification verification = verify(token);
+        if (verification.isValid() && verification.getClaims().get("auth") == null) {
+            logRejected(TokenRejectReason.MISSING_AUTHORITIES, null);
+            return TokenVerification.rejected(TokenRejectReason.MISSING_AUTHORITIES);
+        }
+        return verification;
+    }
 
+    // 검증된 Claims -> 인증 정보
+    public Authentication toAuthentication(Claims claims) {
         if (claims.get("auth") == null) {
             log.error(">> 인증 실패: 권한 정보(auth 클레임)가 없는 토큰입니다. Subject: {}", claims.getSubject());
             throw new BadCredentialsException("권한 정보가 없는 토큰입니다. (인증 실패)");
         }
 
-        log.info(">> getAuthentication 성공: 사용자 ID({})의 권한 정보 추출 완료.", claims.getSubject());
+        log.debug(">> getAuthentication 성공: 사용자 ID({})의 권한 정보 추출 완료.", claims.getSubject());
         // 클레임에서 권한 정보 가져오기
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get("auth").toString().split(","))
@@ -94,26 +139,35 @@ public class JwtTokenProvider {
                         .collect(Collectors.toList());
 
         // UserDetails 객체를 만들어서 Authentication return
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        AuthMember principal = new AuthMember(claims.getSubject(), claims.get(MEMBER_ID_CLAIM, Long.class), authorities);
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT Token", e);
-        } catch (ExpiredJwtException e) {
-            log.info("Expired JWT Token", e);
-            // 만료된 토큰은 별도 처리 (재발급 요청으로 이어짐)
-        } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT Token", e);
-        } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.", e);
+        return verify(token).isValid();
+    }
+
+    /**
+     * 거절 사유별로 LOG_INTERVAL_MILLIS에 한 번만 남기고 나머지는 건수만 센다.
+     * 잘못된 토큰이 대량으로 들어와도 로그(스택 트레이스) 비용이 요청 수에 비례하지 않도록 한다.
+     */
+    private void logRejected(TokenRejectReason reason, Exception e) {
+        long now = System.currentTimeMillis();
+        AtomicLong lastLogged = lastLoggedAt.get(reason);
+        long previous = lastLogged.get();
+
+        if (now - previous < LOG_INTERVAL_MILLIS || !lastLogged.compareAndSet(previous, now)) {
+            suppressedLogs.get(reason).incrementAndGet();
+            return;
+        }
+
+        long suppressed = suppressedLogs.get(reason).getAndSet(0);
+        log.info("{} ({}), 생략된 같은 로그 {}건", reason.getDescription(),
+                e != null ? e.getMessage() : "-", suppressed);
+        if (e != null) {
+            log.debug("JWT 검증 실패 상세", e);
         }
-        return false;
     }
 
     public String getLoginIdFromToken(String token) {
@@ -128,9 +182,14 @@ public class JwtTokenProvider {
         return loginId;
     }
 
+    // mid 클레임이 없는 이전 토큰이면 null
+    public Long getMemberIdFromToken(String token) {
+        return parseClaims(token).get(MEMBER_ID_CLAIM, Long.class);
+    }
+
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return parser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             // Access Token이 만료되어도 Claims는 추출되어야 함 (사용자 정보 확인 목적)
             return e.getClaims();
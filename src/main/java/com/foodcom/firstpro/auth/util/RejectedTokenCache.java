@@ -0,0 +1,69 @@
+package com.foodcom.firstpro.auth.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 최근 거절한 토큰 다이제스트 (Negative Cache).
+ * 같은 잘못된 토큰이 반복해서 들어오면 파싱/서명 검증/예외 생성 없이 바로 거절한다.
+ * 거절 사유(만료, 서명 오류 등)는 같은 토큰에 대해 바뀌지 않으므로 TTL은 메모리 회수 용도이다.
+ * <p>
+ * 지표: jwt.auth.rejected{reason, source=verify|cache}
+ */
+@Component
+public class RejectedTokenCache {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final ExpiringDigestCache<TokenRejectReason> cache;
+
+    private final Map<TokenRejectReason, Counter> verifiedCounters = new EnumMap<>(TokenRejectReason.class);
+    private final Map<TokenRejectReason, Counter> cachedCounters = new EnumMap<>(TokenRejectReason.class);
+
+    public RejectedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.reject-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.reject-cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.reject-cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        this.cache = new ExpiringDigestCache<>(maxSize);
+
+        for (TokenRejectReason reason : TokenRejectReason.values()) {
+            verifiedCounters.put(reason, meterRegistry.counter("jwt.auth.rejected",
+                    "reason", reason.getTag(), "source", "verify"));
+            cachedCounters.put(reason, meterRegistry.counter("jwt.auth.rejected",
+                    "reason", reason.getTag(), "source", "cache"));
+        }
+        meterRegistry.gaugeMapSize("jwt.auth.rejected.cache.size", Tags.empty(), cache.asMap());
+    }
+
+    /**
+     * @return 최근 거절한 토큰이면 그 사유, 아니면 null
+     */
+    public TokenRejectReason get(String tokenDigest) {
+        if (!enabled) {
+            return null;
+        }
+
+        TokenRejectReason reason = cache.get(tokenDigest);
+        if (reason != null) {
+            cachedCounters.get(reason).increment();
+        }
+        return reason;
+    }
+
+    // 검증해서 거절한 토큰 기록
+    public void put(String tokenDigest, TokenRejectReason reason) {
+        verifiedCounters.get(reason).increment();
+        if (enabled) {
+            cache.put(tokenDigest, reason, System.currentTimeMillis() + ttlMillis);
+        }
+    }
+}
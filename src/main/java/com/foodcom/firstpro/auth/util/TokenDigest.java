@@ -0,0 +1,24 @@
+package com.foodcom.firstpro.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 캐시 키 (SHA-256). 메모리에 토큰 원문을 보관하지 않기 위해 사용한다.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    public static String of(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
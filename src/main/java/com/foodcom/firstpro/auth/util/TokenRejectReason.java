@@ -0,0 +1,40 @@
+package com.foodcom.firstpro.auth.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 거절 사유 (지표 태그 / 로그 메시지).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TokenRejectReason {
+
+    EXPIRED("expired", "Expired JWT Token"),
+    INVALID_SIGNATURE("invalid_signature", "Invalid JWT Token"),
+    MALFORMED("malformed", "Invalid JWT Token"),
+    UNSUPPORTED("unsupported", "Unsupported JWT Token"),
+    EMPTY("empty", "JWT claims string is empty."),
+    MISSING_AUTHORITIES("missing_authorities", "권한 정보(auth 클레임)가 없는 토큰입니다.");
+
+    private final String tag;
+    private final String description;
+
+    public static TokenRejectReason of(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return EXPIRED;
+        }
+        if (e instanceof io.jsonwebtoken.security.SecurityException) {
+            return INVALID_SIGNATURE;
+        }
+        if (e instanceof UnsupportedJwtException) {
+            return UNSUPPORTED;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return EMPTY;
+        }
+        return MALFORMED;
+    }
+}
@@ -0,0 +1,29 @@
+package com.foodcom.firstpro.auth.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 검증 결과. 유효하지 않은 토큰을 예외 대신 거절 사유로 돌려준다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+    private final Claims claims;
+    private final TokenRejectReason rejectReason;
+
+    public static TokenVerification valid(Claims claims) {
+        return new TokenVerification(claims, null);
+    }
+
+    public static TokenVerification rejected(TokenRejectReason reason) {
+        return new TokenVerification(null, reason);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+}
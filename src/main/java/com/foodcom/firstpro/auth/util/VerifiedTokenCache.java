@@ -0,0 +1,63 @@
+package com.foodcom.firstpro.auth.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 Access Token -> 인증 정보 캐시.
+ * 같은 토큰으로 들어오는 요청은 HMAC 검증과 Claims 파싱 없이 미리 만든 Authentication을 사용한다.
+ * <p>
+ * - 키는 토큰 원문이 아니라 {@link TokenDigest} (요청마다 한 번 계산해서 RejectedTokenCache와 함께 사용).
+ * - 항목은 토큰 만료 시각까지만 유효하므로, 캐시가 없을 때와 인증 결과가 같다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final ExpiringDigestCache<Authentication> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.auth-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.auth-cache.max-size:10000}") int maxSize) {
+        this.enabled = enabled;
+        this.cache = new ExpiringDigestCache<>(maxSize);
+
+        this.hitCounter = meterRegistry.counter("jwt.auth.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.auth.cache", "result", "miss");
+        meterRegistry.gaugeMapSize("jwt.auth.cache.size", Tags.empty(), cache.asMap());
+    }
+
+    /**
+     * @return 검증된 토큰의 인증 정보, 캐시에 없거나 만료됐으면 null
+     */
+    public Authentication get(String tokenDigest) {
+        if (!enabled) {
+            return null;
+        }
+
+        Authentication authentication = cache.get(tokenDigest);
+        if (authentication == null) {
+            missCounter.increment();
+            return null;
+        }
+
+        hitCounter.increment();
+        return authentication;
+    }
+
+    public void put(String tokenDigest, Authentication authentication, Date expiration) {
+        if (!enabled || expiration == null) {
+            return;
+        }
+        cache.put(tokenDigest, authentication, expiration.getTime());
+    }
+}
@@ -0,0 +1,145 @@
+package com.foodcom.firstpro.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용 중인 loginId의 Bloom Filter (인스턴스 메모리).
+ * 회원가입 시 "확실히 없는" 아이디는 중복 조회 없이 바로 INSERT하고, 있을 수도 있는 아이디만 DB에서 확인한다.
+ * <p>
+ * - 최종 판단은 member.login_id UNIQUE 제약이다. 다른 인스턴스에서 가입한 아이디를 모르더라도
+ *   INSERT가 제약 위반으로 실패할 뿐 중복 가입은 생기지 않는다.
+ * - 기동 후 member 테이블을 한 번 읽어 채우며, 채우는 동안에는 모든 아이디를 "있을 수도 있음"으로 본다.
+ * - 삭제를 지원하지 않는다 (회원 탈퇴가 생기면 그 아이디는 오탐으로 남는다).
+ * <p>
+ * 지표: member.login-id-filter{result=absent|present|false_positive}, member.login-id-filter.expected-fpp
+ */
+@Slf4j
+@Component
+public class LoginIdBloomFilter {
+
+    private static final String WARM_UP_SQL = "SELECT login_id FROM member";
+    private static final int WARM_UP_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+    private volatile boolean ready;
+
+    private final Counter absentCounter;
+    private final Counter presentCounter;
+    private final Counter falsePositiveCounter;
+
+    public LoginIdBloomFilter(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.login-id-filter.expected-insertions:1000000}") long expectedInsertions,
+                              @Value("${member.login-id-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+
+        this.absentCounter = meterRegistry.counter("member.login-id-filter", "result", "absent");
+        this.presentCounter = meterRegistry.counter("member.login-id-filter", "result", "present");
+        this.falsePositiveCounter = meterRegistry.counter("member.login-id-filter", "result", "false_positive");
+        meterRegistry.gauge("member.login-id-filter.expected-fpp", this, LoginIdBloomFilter::expectedFalsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(WARM_UP_SQL);
+                statement.setFetchSize(WARM_UP_FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                put(resultSet.getString(1));
+            });
+            ready = true;
+            log.info(">> loginId Bloom Filter 준비 완료: {}건, {}ms", insertions.get(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 준비되지 않은 상태로 두면 모든 가입 요청이 DB 조회 경로를 사용 (기존 동작)
+            log.warn(">> loginId Bloom Filter 준비 실패, 중복 조회로 대체: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return false면 확실히 사용되지 않은 아이디, true면 DB 확인 필요
+     */
+    public boolean mightContain(String loginId) {
+        if (!ready) {
+            return true;
+        }
+
+        long[] hashes = hash(loginId);
+        for (int i = 0; i < hashCount; i++) {
+            long index = indexOf(hashes, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                absentCounter.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // mightContain이 true였을 때 DB 확인 결과 기록 (오탐률 지표)
+    public void recordLookup(boolean exists) {
+        if (!ready) {
+            return;
+        }
+        (exists ? presentCounter : falsePositiveCounter).increment();
+    }
+
+    public void put(String loginId) {
+        long[] hashes = hash(loginId);
+        for (int i = 0; i < hashCount; i++) {
+            long index = indexOf(hashes, i);
+            long mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (current, bit) -> current | bit);
+        }
+        insertions.incrementAndGet();
+    }
+
+    // 현재 원소 수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitSize), hashCount);
+    }
+
+    private long indexOf(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+    }
+
+    // 64비트 FNV-1a 한 번으로 두 해시를 만들어 k개 인덱스를 계산 (Kirsch-Mitzenmacher)
+    private long[] hash(String loginId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : loginId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return new long[]{mix(hash), mix(hash ^ 0x9e3779b97f4a7c15L) | 1};
+    }
+
+    // SplitMix64 finalizer
+    private long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
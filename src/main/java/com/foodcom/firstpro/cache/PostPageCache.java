@@ -0,0 +1,282 @@
+package com.foodcom.firstpro.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodcom.firstpro.domain.post.PostPageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 홈 피드(GET /posts) 페이지 응답을 Redis에 캐싱한다.
+ * <p>
+ * - 모든 페이지를 하나의 Hash에 저장하므로 조회는 HGET 1회, 무효화는 DEL 1회로 끝난다.
+ * - 같은 인스턴스에서 동시에 발생한 미스는 하나의 DB 조회로 합친다 (Stampede 방지). 그 조회가 실패하면 기다리던 요청도 같은 예외로 끝난다.
+ * - 무효화 시 버전을 올리고, 적재 시 버전이 바뀌었으면 저장하지 않아 무효화 직전에 읽은 오래된 페이지가 다시 캐싱되지 않는다.
+ * - 미스는 복제본에서 읽으므로, 커밋 직후 무효화 뒤 아직 반영되지 않은 복제본에서 읽은 페이지가 캐싱될 수 있다.
+ *   그래서 쓰기 커밋 후에는 replica-lag 뒤에 한 번 더 무효화한다 (연속된 쓰기는 마지막 쓰기 기준 한 번으로 합침).
+ * - Redis 장애 시에는 잠시 동안 캐시를 건너뛰고 DB에서 바로 조회한다.
+ */
+@Slf4j
+@Component
+public class PostPageCache {
+
+    // 값 형식(CachedPage)이 바뀌면 키도 바꿔 이전 형식의 값을 읽지 않음
+    private static final String PAGE_KEY = "{postPage}:v2";
+    private static final String VERSION_KEY = "{postPage}:version";
+
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int maxCachedPage;
+    private final long loadWaitMillis;
+    private final long failureBackoffMillis;
+    private final long replicaLagNanos;
+
+    // Redis 오류 발생 시 이 시각까지는 Redis를 호출하지 않음 (타임아웃 대기로 요청이 느려지는 것 방지)
+    private volatile long bypassUntil = 0L;
+
+    private final Map<String, CompletableFuture<PostPageResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 지연 무효화 예정 시각 (System.nanoTime 기준, 0이면 예정 없음)
+    private final AtomicLong delayedEvictAt = new AtomicLong();
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Counter errorCounter;
+
+    public PostPageCache(StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${cache.post-page.enabled:true}") boolean enabled,
+                         @Value("${cache.post-page.ttl:30s}") Duration ttl,
+                         @Value("${cache.post-page.max-page:5}") int maxCachedPage,
+                         @Value("${cache.post-page.load-wait-ms:3000}") long loadWaitMillis,
+                         @Value("${cache.post-page.failure-backoff-ms:5000}") long failureBackoffMillis,
+                         @Value("${cache.post-page.replica-lag:2s}") Duration replicaLag) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxCachedPage = maxCachedPage;
+        this.loadWaitMillis = loadWaitMillis;
+        this.failureBackoffMillis = failureBackoffMillis;
+        this.replicaLagNanos = replicaLag.toNanos();
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "post-page-evict");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.hitCounter = meterRegistry.counter("post.page.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("post.page.cache", "result", "miss");
+        this.coalescedCounter = meterRegistry.counter("post.page.cache", "result", "coalesced");
+        this.errorCounter = meterRegistry.counter("post.page.cache", "result", "error");
+    }
+
+    // 오프셋 모드 페이지 (1부터 시작)
+    public PostPageResponse getOffsetPage(int pageNumber, Supplier<PostPageResponse> loader) {
+        if (pageNumber > maxCachedPage) {
+            return loader.get();
+        }
+        return get("offset:" + pageNumber, loader);
+    }
+
+    // 커서 모드 첫 페이지 (이후 페이지는 커서마다 키가 달라 캐싱하지 않음)
+    public PostPageResponse getFirstCursorPage(Supplier<PostPageResponse> loader) {
+        return get("cursor:first", loader);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 캐시를 비우고, replica-lag 뒤에 한 번 더 비운다.
+     * 커밋 전에 비우면 아직 반영되지 않은 데이터를 다른 요청이 다시 캐싱할 수 있기 때문.
+     */
+    public void evictAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                    evictAfterReplicaLag();
+                }
+            });
+        } else {
+            evict();
+            evictAfterReplicaLag();
+        }
+    }
+
+    public void evict() {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(PAGE_KEY, VERSION_KEY));
+        } catch (Exception e) {
+            onRedisFailure("무효화", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 이미 예정된 지연 무효화가 있으면 시각만 뒤로 미룸 (쓰기마다 작업을 만들지 않음)
+    private void evictAfterReplicaLag() {
+        if (delayedEvictAt.getAndSet(System.nanoTime() + replicaLagNanos) == 0) {
+            scheduler.schedule(this::runDelayedEvict, replicaLagNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void runDelayedEvict() {
+        long deadline = delayedEvictAt.get();
+        long remaining = deadline - System.nanoTime();
+        if (remaining > 0) {
+            scheduler.schedule(this::runDelayedEvict, remaining, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (!delayedEvictAt.compareAndSet(deadline, 0)) {
+            // 그 사이 새 쓰기가 예정 시각을 미룸
+            runDelayedEvict();
+            return;
+        }
+        evict();
+    }
+
+    private PostPageResponse get(String field, Supplier<PostPageResponse> loader) {
+        if (!enabled || System.currentTimeMillis() < bypassUntil) {
+            return loader.get();
+        }
+
+        PostPageResponse cached = read(field);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        CompletableFuture<PostPageResponse> myLoad = new CompletableFuture<>();
+        CompletableFuture<PostPageResponse> runningLoad = inFlight.putIfAbsent(field, myLoad);
+
+        if (runningLoad != null) {
+            // 같은 페이지를 이미 다른 요청이 DB에서 읽고 있으면 그 결과를 기다린다.
+            coalescedCounter.increment();
+            try {
+                return runningLoad.get(loadWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                // 먼저 읽던 요청이 실패하면 같은 예외로 끝낸다 (대기하던 요청들이 각자 DB를 다시 조회하면 Stampede)
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("게시물 목록 조회 대기 중 중단되었습니다.", e);
+            } catch (TimeoutException e) {
+                // 먼저 읽던 요청이 너무 오래 걸리면 직접 조회 (대기 시간 상한)
+                return loader.get();
+            }
+        }
+
+        missCounter.increment();
+        try {
+            String version = readVersion();
+            PostPageResponse loaded = loader.get();
+            myLoad.complete(loaded);
+            write(field, version, loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            myLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(field, myLoad);
+        }
+    }
+
+    private PostPageResponse read(String field) {
+        try {
+            Object json = redisTemplate.opsForHash().get(PAGE_KEY, field);
+            if (json == null) {
+                return null;
+            }
+            CachedPage cached = objectMapper.readValue(json.toString(), CachedPage.class);
+            return cached.page().toBuilder()
+                    .loadedAt(cached.loadedAt())
+                    .build();
+        } catch (Exception e) {
+            onRedisFailure("조회", e);
+            return null;
+        }
+    }
+
+    private String readVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            return version == null ? "0" : version;
+        } catch (Exception e) {
+            onRedisFailure("버전 조회", e);
+            return null;
+        }
+    }
+
+    private void write(String field, String version, PostPageResponse page) {
+        if (version == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(PAGE_KEY, VERSION_KEY),
+                    version, field, objectMapper.writeValueAsString(new CachedPage(page.getLoadedAt(), page)),
+                    String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            onRedisFailure("저장", e);
+        }
+    }
+
+    private void onRedisFailure(String operation, Exception e) {
+        errorCounter.increment();
+        bypassUntil = System.currentTimeMillis() + failureBackoffMillis;
+        log.warn(">> 게시물 목록 캐시 {} 실패 ({}ms 동안 캐시 우회): {}", operation, failureBackoffMillis, e.getMessage());
+    }
+
+    // loadedAt은 응답 JSON에 넣지 않으므로 캐시 값에만 따로 담음
+    record CachedPage(long loadedAt, PostPageResponse page) {
+    }
+}
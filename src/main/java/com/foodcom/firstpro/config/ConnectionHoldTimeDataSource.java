@@ -0,0 +1,80 @@
+package com.foodcom.firstpro.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀에서 커넥션을 빌린 순간부터 반납(close)할 때까지의 시간을 API별로 기록한다 (db.connection.hold).
+ * LazyConnectionDataSourceProxy 안쪽에 두므로 실제로 풀에서 꺼낸 커넥션만 측정된다.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    private static final String METRIC_NAME = "db.connection.hold";
+    private static final String NO_REQUEST = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        long acquiredAt = System.nanoTime();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        recordHoldTime(System.nanoTime() - acquiredAt);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    // 반납 시점에 태그를 결정 (핸들러 매핑이 끝난 뒤라 URI 패턴을 알 수 있음)
+    private void recordHoldTime(long nanos) {
+        String uri = NO_REQUEST;
+        String method = NO_REQUEST;
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            uri = pattern != null ? pattern.toString() : "UNKNOWN"; // 필터 단계(인증 등)에서 사용한 커넥션
+            method = request.getMethod();
+        }
+
+        Timer.builder(METRIC_NAME)
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
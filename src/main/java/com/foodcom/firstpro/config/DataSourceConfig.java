@@ -1,21 +1,33 @@
 package com.foodcom.firstpro.config;
 
+import com.foodcom.firstpro.querystats.QueryStatsDataSource;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Configuration
 public class DataSourceConfig {
 
+    private static final String REPLICAS_PREFIX = "spring.datasource.replicas";
+    private static final String LEGACY_SLAVE_PREFIX = "spring.datasource.slave";
+
     // Master DataSource (쓰기 전용)
     @Bean
     @ConfigurationProperties(prefix = "spring.datasource.master")
@@ -23,34 +35,86 @@ public class DataSourceConfig {
         return DataSourceBuilder.create().type(HikariDataSource.class).build();
     }
 
-    // Slave DataSource (읽기 전용)
-    @Bean
-    @ConfigurationProperties(prefix = "spring.datasource.slave")
-    public DataSource slaveDataSource() {
-        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    /**
+     * 읽기 전용 복제본 목록: spring.datasource.replicas[n].* (jdbc-url, username, password, weight 및 Hikari 설정)
+     * 목록이 없으면 기존 설정(spring.datasource.slave)을 복제본 하나로 사용한다.
+     */
+    @Bean(destroyMethod = "close")
+    public ReadReplicas readReplicas(Environment environment,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${db.replica.strategy:weighted-round-robin}") String strategy) {
+        Binder binder = Binder.get(environment);
+        List<ReadReplica> replicas = new ArrayList<>();
+
+        for (int i = 0; binder.bind(REPLICAS_PREFIX + "[" + i + "].jdbc-url", String.class).isBound(); i++) {
+            String prefix = REPLICAS_PREFIX + "[" + i + "]";
+            int weight = binder.bind(prefix + ".weight", Integer.class).orElse(1);
+            replicas.add(new ReadReplica("replica-" + i, bindDataSource(binder, prefix), weight));
+        }
+        if (replicas.isEmpty()) {
+            replicas.add(new ReadReplica("SLAVE", bindDataSource(binder, LEGACY_SLAVE_PREFIX), 1));
+        }
+
+        return new ReadReplicas(replicas,
+                ReadReplicas.Strategy.valueOf(strategy.toUpperCase(Locale.ROOT).replace('-', '_')),
+                meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaHealthChecker replicaHealthChecker(ReadReplicas readReplicas,
+                                                     @Qualifier("masterDataSource") DataSource masterDataSource,
+                                                     MeterRegistry meterRegistry,
+                                                     @Value("${db.replica.health-interval-ms:5000}") long intervalMillis,
+                                                     @Value("${db.replica.failure-threshold:2}") int failureThreshold,
+                                                     @Value("${db.replica.probe-timeout-seconds:2}") int probeTimeoutSeconds,
+                                                     @Value("${db.replica.heartbeat-interval-ms:1000}") long heartbeatIntervalMillis,
+                                                     @Value("${db.replica.max-lag-ms:3000}") long maxLagMillis,
+                                                     @Value("${db.replica.recover-lag-ms:1000}") long recoverLagMillis) {
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(readReplicas, masterDataSource, meterRegistry,
+                failureThreshold, probeTimeoutSeconds, maxLagMillis, recoverLagMillis);
+        checker.start(intervalMillis, heartbeatIntervalMillis);
+        return checker;
     }
 
-    // Routing DataSource (Master/Slave 분기 처리)
+    // Routing DataSource (Master/복제본 분기 처리)
     @Bean
     public DataSource routingDataSource(
             @Qualifier("masterDataSource") DataSource masterDataSource,
-            @Qualifier("slaveDataSource") DataSource slaveDataSource) {
+            ReadReplicas readReplicas,
+            ReadYourWritesTracker readYourWritesTracker,
+            @Value("${db.query-stats.enabled:true}") boolean queryStatsEnabled) {
 
-        RoutingDataSource routingDataSource = new RoutingDataSource();
+        RoutingDataSource routingDataSource = new RoutingDataSource(readReplicas, readYourWritesTracker);
 
+        // 요청별 SQL 통계를 라우팅 대상별로 나눠 세도록 대상마다 감쌈 (상태 확인/하트비트는 원본 사용)
         Map<Object, Object> targetDataSources = new HashMap<>();
-        targetDataSources.put("MASTER", masterDataSource);
-        targetDataSources.put("SLAVE", slaveDataSource);
+        targetDataSources.put(ReadReplicas.MASTER, withQueryStats(masterDataSource, ReadReplicas.MASTER, queryStatsEnabled));
+        for (ReadReplica replica : readReplicas.getReplicas()) {
+            targetDataSources.put(replica.getName(), withQueryStats(replica.getDataSource(), replica.getName(), queryStatsEnabled));
+        }
 
         routingDataSource.setTargetDataSources(targetDataSources);
-        routingDataSource.setDefaultTargetDataSource(masterDataSource); // 기본은 Master
+        routingDataSource.setDefaultTargetDataSource(targetDataSources.get(ReadReplicas.MASTER)); // 기본은 Master
 
         return routingDataSource;
     }
-    
+
     @Bean
     @Primary
-    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
-        return new LazyConnectionDataSourceProxy(routingDataSource);
+    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource,
+                                 MeterRegistry meterRegistry) {
+        // 실제 커넥션을 빌린 시간만 측정되도록 Lazy 프록시 안쪽에서 감쌈
+        return new LazyConnectionDataSourceProxy(new ConnectionHoldTimeDataSource(routingDataSource, meterRegistry));
+    }
+
+    private DataSource withQueryStats(DataSource dataSource, String target, boolean enabled) {
+        return enabled ? new QueryStatsDataSource(dataSource, target) : dataSource;
+    }
+
+    // @ConfigurationProperties와 같은 방식으로 Hikari 설정 바인딩 (weight 등 모르는 항목은 무시)
+    private HikariDataSource bindDataSource(Binder binder, String prefix) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        binder.bind(prefix, Bindable.ofInstance(dataSource));
+        return dataSource;
     }
 }
@@ -5,6 +5,7 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -16,6 +17,7 @@ import java.io.InputStream;
 
 @Configuration
 @Profile("prod")
+@ConditionalOnProperty(name = "storage.backend", havingValue = "gcs", matchIfMissing = true)
 public class GcsConfig {
 
     @Value("${gcp.storage.key-file-path:#{null}}")
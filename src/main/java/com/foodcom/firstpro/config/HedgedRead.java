@@ -0,0 +1,18 @@
+package com.foodcom.firstpro.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 읽기 전용 서비스 메서드의 헤지 읽기 대상 표시 (db.hedge.enabled=true일 때만 동작).
+ * 첫 시도가 최근 p95 응답 시간 안에 끝나지 않으면 다른 복제본(또는 Master)으로 같은 읽기를 한 번 더 보내고 먼저 끝난 결과를 사용한다.
+ * <p>
+ * 시도마다 별도 스레드의 별도 트랜잭션에서 실행되므로, 부작용이 없고 영속성 컨텍스트 밖으로 엔티티를 내보내지 않는(DTO를 반환하는) 메서드에만 붙인다.
+ * 캐시를 거치는 조회는 캐시 아래의 DB 조회 메서드에 붙인다 (캐시 적중 시간이 지연 표본에 섞이지 않도록).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HedgedRead {
+}
@@ -0,0 +1,211 @@
+package com.foodcom.firstpro.config;
+
+import com.foodcom.firstpro.querystats.QueryStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link HedgedRead} 메서드 실행: 첫 시도가 deadline 안에 끝나지 않으면 두 번째 시도를 보내고 먼저 성공한 결과를 사용한다.
+ * <p>
+ * - deadline: 메서드별 최근 첫 시도 응답 시간 p95 (표본이 모이기 전에는 initial-delay), 최소 min-delay.
+ *   이긴 쪽의 시간을 표본으로 쓰면 헤지된 호출이 deadline 근처 값만 남겨 deadline이 스스로 줄어들므로,
+ *   첫 시도는 이기든 지든 끝까지 실행해 자기 응답 시간을 남긴다.
+ * - 예산: 읽기 1회마다 budget-percent만큼 적립하고 헤지 1회에 1을 쓴다 (추가 부하를 전체 읽기의 일정 비율로 제한).
+ * - 진 두 번째 시도는 스레드 인터럽트로 취소한다. 이미 DB에서 실행 중인 쿼리는 끝날 때까지 커넥션을 점유할 수 있다.
+ * - 트랜잭션 어드바이스보다 바깥에서 실행해야 시도마다 별도 트랜잭션(별도 커넥션)을 가진다.
+ *   이미 트랜잭션 안에서 호출되면 헤지하지 않는다.
+ * - 전용 스레드가 모두 사용 중이면 호출 스레드에서 헤지 없이 실행한다 (대기열 없음).
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class HedgedReadAspect {
+
+    private static final int BUDGET_SCALE = 100;
+    private static final int MAX_BUDGET = 10 * BUDGET_SCALE;
+
+    private final boolean enabled;
+    private final long minDelayNanos;
+    private final long initialDelayNanos;
+    private final int budgetPercent;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong budget = new AtomicLong(MAX_BUDGET);
+
+    private final Counter primaryWinCounter;
+    private final Counter hedgeWinCounter;
+    private final Counter issuedCounter;
+    private final Counter budgetExhaustedCounter;
+    private final Counter saturatedCounter;
+
+    public HedgedReadAspect(MeterRegistry meterRegistry,
+                            @Value("${db.hedge.enabled:false}") boolean enabled,
+                            @Value("${db.hedge.min-delay-ms:10}") long minDelayMillis,
+                            @Value("${db.hedge.initial-delay-ms:50}") long initialDelayMillis,
+                            @Value("${db.hedge.budget-percent:5}") int budgetPercent,
+                            @Value("${db.hedge.threads:32}") int threads) {
+        this.enabled = enabled;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        this.initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMillis);
+        this.budgetPercent = budgetPercent;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "hedged-read");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.primaryWinCounter = meterRegistry.counter("db.hedge.result", "winner", "primary");
+        this.hedgeWinCounter = meterRegistry.counter("db.hedge.result", "winner", "hedge");
+        this.issuedCounter = meterRegistry.counter("db.hedge.issued");
+        this.budgetExhaustedCounter = meterRegistry.counter("db.hedge.skipped", "reason", "budget");
+        this.saturatedCounter = meterRegistry.counter("db.hedge.skipped", "reason", "saturated");
+        meterRegistry.gauge("db.hedge.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @Around("@annotation(com.foodcom.firstpro.config.HedgedRead)")
+    public Object hedge(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        LatencyWindow latency = latencies.computeIfAbsent(joinPoint.getSignature().toLongString(),
+                key -> new LatencyWindow(512, 64, 0.95));
+        budget.accumulateAndGet(budgetPercent, (current, added) -> Math.min(MAX_BUDGET, current + added));
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        QueryStats queryStats = QueryStats.current();
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+        ReadAttempt primary = ReadAttempt.primary();
+
+        Future<Object> primaryFuture;
+        try {
+            primaryFuture = completionService.submit(() -> attempt(joinPoint, primary, latency, securityContext, queryStats));
+        } catch (RejectedExecutionException e) {
+            saturatedCounter.increment();
+            return joinPoint.proceed();
+        }
+
+        Future<Object> hedgeFuture = null;
+        try {
+            Future<Object> done = completionService.poll(deadlineNanos(latency), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                hedgeFuture = submitHedge(completionService, joinPoint, primary, latency, securityContext, queryStats);
+                done = completionService.take();
+            }
+
+            Future<Object> winner = firstSuccessful(done, hedgeFuture != null, completionService);
+            Object result = resultOf(winner);
+            (winner == primaryFuture ? primaryWinCounter : hedgeWinCounter).increment();
+            return result;
+        } finally {
+            // 첫 시도는 인터럽트하지 않음 (끝까지 실행해 응답 시간 표본을 남김)
+            primaryFuture.cancel(false);
+            if (hedgeFuture != null) {
+                hedgeFuture.cancel(true);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 아직 계산 전이면 -1
+    long latencyPercentileNanos(String signature) {
+        LatencyWindow latency = latencies.get(signature);
+        return latency == null ? -1 : latency.percentileNanos();
+    }
+
+    private long deadlineNanos(LatencyWindow latency) {
+        long p95 = latency.percentileNanos();
+        return Math.max(minDelayNanos, p95 < 0 ? initialDelayNanos : p95);
+    }
+
+    private Future<Object> submitHedge(CompletionService<Object> completionService, ProceedingJoinPoint joinPoint,
+                                       ReadAttempt primary, LatencyWindow latency,
+                                       SecurityContext securityContext, QueryStats queryStats) {
+        if (budget.getAndUpdate(current -> current >= BUDGET_SCALE ? current - BUDGET_SCALE : current) < BUDGET_SCALE) {
+            budgetExhaustedCounter.increment();
+            return null;
+        }
+
+        try {
+            Future<Object> future = completionService.submit(
+                    () -> attempt(joinPoint, ReadAttempt.hedgeOf(primary), latency, securityContext, queryStats));
+            issuedCounter.increment();
+            return future;
+        } catch (RejectedExecutionException e) {
+            budget.addAndGet(BUDGET_SCALE);
+            saturatedCounter.increment();
+            return null;
+        }
+    }
+
+    // 먼저 끝난 시도가 실패했고 다른 시도가 진행 중이면 그 결과를 기다림 (둘 다 실패하면 먼저 실패한 쪽)
+    private Future<Object> firstSuccessful(Future<Object> done, boolean hedged,
+                                           CompletionService<Object> completionService) throws InterruptedException {
+        if (hedged && done.state() == Future.State.FAILED) {
+            Future<Object> other = completionService.take();
+            if (other.state() == Future.State.SUCCESS) {
+                return other;
+            }
+        }
+        return done;
+    }
+
+    private Object resultOf(Future<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 호출 스레드의 인증 정보와 요청별 SQL 통계를 시도 스레드로 옮겨 실행
+    private Object attempt(ProceedingJoinPoint joinPoint, ReadAttempt attempt, LatencyWindow latency,
+                           SecurityContext securityContext, QueryStats queryStats) throws Exception {
+        long start = System.nanoTime();
+        SecurityContextHolder.setContext(securityContext);
+        if (queryStats != null) {
+            queryStats.bind();
+        }
+        attempt.bind();
+        try {
+            return joinPoint.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        } finally {
+            if (attempt.isPrimary()) {
+                latency.record(System.nanoTime() - start);
+            }
+            ReadAttempt.unbind();
+            QueryStats.unbind();
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.foodcom.firstpro.config;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 표본(고정 크기 링 버퍼)의 백분위수.
+ * 표본이 쌓일 때마다 정렬하지 않고, recomputeEvery개가 추가될 때마다 다시 계산한 값을 돌려준다.
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private final int recomputeEvery;
+    private final double percentile;
+
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private volatile long cachedNanos = -1;
+
+    LatencyWindow(int size, int recomputeEvery, double percentile) {
+        this.samples = new long[size];
+        this.recomputeEvery = recomputeEvery;
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+
+        if (++sinceRecompute >= recomputeEvery) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            cachedNanos = sorted[(int) Math.min(count - 1, Math.ceil(count * percentile) - 1)];
+        }
+    }
+
+    // 아직 계산 전이면 -1
+    long percentileNanos() {
+        return cachedNanos;
+    }
+}
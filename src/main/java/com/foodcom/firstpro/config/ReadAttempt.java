@@ -0,0 +1,53 @@
+package com.foodcom.firstpro.config;
+
+/**
+ * 헤지 읽기({@link HedgedRead}) 시도 하나의 라우팅 정보.
+ * 실행 스레드에 묶어 두면 {@link RoutingDataSource}가 고른 대상을 기록하고, 두 번째 시도는 첫 시도의 대상을 피한다.
+ */
+final class ReadAttempt {
+
+    private static final ThreadLocal<ReadAttempt> CURRENT = new ThreadLocal<>();
+
+    private final ReadAttempt primary;
+    private volatile String routedTo;
+
+    private ReadAttempt(ReadAttempt primary) {
+        this.primary = primary;
+    }
+
+    static ReadAttempt primary() {
+        return new ReadAttempt(null);
+    }
+
+    static ReadAttempt hedgeOf(ReadAttempt primary) {
+        return new ReadAttempt(primary);
+    }
+
+    boolean isPrimary() {
+        return primary == null;
+    }
+
+    static ReadAttempt current() {
+        return CURRENT.get();
+    }
+
+    void bind() {
+        CURRENT.set(this);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    // 첫 시도가 간 복제본 (Master였거나 아직 커넥션을 얻기 전이면 피할 대상 없음)
+    String excluded() {
+        if (primary == null || ReadReplicas.MASTER.equals(primary.routedTo)) {
+            return null;
+        }
+        return primary.routedTo;
+    }
+
+    void routedTo(String target) {
+        this.routedTo = target;
+    }
+}
@@ -0,0 +1,63 @@
+package com.foodcom.firstpro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 복제본 하나 (라우팅 키 = name).
+ * 상태(healthy, lagging)는 {@link ReplicaHealthChecker}가 바꾸고, 라우팅은 {@link ReadReplicas}가 읽는다.
+ */
+@Getter
+public class ReadReplica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final int weight;
+
+    private volatile boolean healthy = true;
+    private volatile boolean lagging = false;
+
+    // 마지막으로 측정한 복제 지연 (밀리초, 측정 전이면 -1)
+    private volatile long lagMillis = -1;
+
+    // 가중 라운드 로빈 상태 (ReadReplicas의 잠금 안에서만 사용)
+    int currentWeight;
+
+    public ReadReplica(String name, DataSource dataSource, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("복제본 가중치는 1 이상이어야 합니다: " + name);
+        }
+        this.name = name;
+        this.dataSource = dataSource;
+        this.weight = weight;
+    }
+
+    // 풀에서 빌려 간 커넥션 수 (Hikari 풀이 아니거나 아직 초기화 전이면 0)
+    public int getActiveConnections() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+        return 0;
+    }
+
+    // 읽기 라우팅 대상 여부
+    public boolean isRoutable() {
+        return healthy && !lagging;
+    }
+
+    void markHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    void markLagging(boolean lagging) {
+        this.lagging = lagging;
+    }
+
+    void recordLag(long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+}
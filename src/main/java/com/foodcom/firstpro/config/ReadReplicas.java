@@ -0,0 +1,136 @@
+package com.foodcom.firstpro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 요청을 정상 상태이고 복제 지연이 기준 이내인 복제본 중 하나로 보낸다. 그런 복제본이 없으면 Master로 보낸다.
+ * <p>
+ * - weighted-round-robin: 가중치 비율대로 고르게 분산 (Smooth Weighted Round-Robin)
+ * - least-outstanding: 사용 중인 커넥션 수 / 가중치가 가장 작은 복제본
+ * <p>
+ * 지표: db.routing{target=MASTER|복제본 이름|MASTER_FALLBACK|MASTER_PINNED}, db.replica.healthy{replica}, db.replica.lag{replica}
+ */
+public class ReadReplicas {
+
+    public static final String MASTER = "MASTER";
+
+    private final List<ReadReplica> replicas;
+    private final Strategy strategy;
+
+    private final Counter masterCounter;
+    private final Counter fallbackCounter;
+    private final Counter pinnedCounter;
+    private final Map<String, Counter> replicaCounters = new HashMap<>();
+
+    public ReadReplicas(List<ReadReplica> replicas, Strategy strategy, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+
+        this.masterCounter = meterRegistry.counter("db.routing", "target", MASTER);
+        this.fallbackCounter = meterRegistry.counter("db.routing", "target", "MASTER_FALLBACK");
+        this.pinnedCounter = meterRegistry.counter("db.routing", "target", "MASTER_PINNED");
+        for (ReadReplica replica : this.replicas) {
+            replicaCounters.put(replica.getName(), meterRegistry.counter("db.routing", "target", replica.getName()));
+            meterRegistry.gauge("db.replica.healthy", List.of(Tag.of("replica", replica.getName())),
+                    replica, r -> r.isHealthy() ? 1 : 0);
+            meterRegistry.gauge("db.replica.lag", List.of(Tag.of("replica", replica.getName())),
+                    replica, r -> r.getLagMillis() < 0 ? Double.NaN : r.getLagMillis() / 1000.0);
+        }
+    }
+
+    public List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    // 쓰기(또는 읽기/쓰기 트랜잭션) 라우팅 기록
+    public String master() {
+        masterCounter.increment();
+        return MASTER;
+    }
+
+    // 최근 쓰기가 있는 사용자의 읽기 라우팅 기록
+    public String pinnedToMaster() {
+        pinnedCounter.increment();
+        return MASTER;
+    }
+
+    /**
+     * @return 읽기 요청을 보낼 라우팅 키 (보낼 수 있는 복제본이 없으면 MASTER)
+     */
+    public String chooseForRead() {
+        return chooseForRead(null);
+    }
+
+    /**
+     * @param excluded 고르지 않을 복제본 이름 (헤지 읽기에서 먼저 보낸 복제본, 없으면 null)
+     */
+    public String chooseForRead(String excluded) {
+        ReadReplica chosen = strategy == Strategy.LEAST_OUTSTANDING ? leastOutstanding(excluded) : weightedRoundRobin(excluded);
+        if (chosen == null) {
+            fallbackCounter.increment();
+            return MASTER;
+        }
+
+        replicaCounters.get(chosen.getName()).increment();
+        return chosen.getName();
+    }
+
+    private synchronized ReadReplica weightedRoundRobin(String excluded) {
+        ReadReplica best = null;
+        int totalWeight = 0;
+
+        for (ReadReplica replica : replicas) {
+            if (!replica.isRoutable() || replica.getName().equals(excluded)) {
+                continue;
+            }
+            replica.currentWeight += replica.getWeight();
+            totalWeight += replica.getWeight();
+            if (best == null || replica.currentWeight > best.currentWeight) {
+                best = replica;
+            }
+        }
+
+        if (best != null) {
+            best.currentWeight -= totalWeight;
+        }
+        return best;
+    }
+
+    private ReadReplica leastOutstanding(String excluded) {
+        ReadReplica best = null;
+        double bestLoad = Double.MAX_VALUE;
+
+        for (ReadReplica replica : replicas) {
+            if (!replica.isRoutable() || replica.getName().equals(excluded)) {
+                continue;
+            }
+            double load = (replica.getActiveConnections() + 1.0) / replica.getWeight();
+            if (load < bestLoad) {
+                best = replica;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    // 빈 소멸 시 호출 (복제본 풀은 스프링 빈이 아니므로 직접 닫음)
+    public void close() {
+        for (ReadReplica replica : replicas) {
+            if (replica.getDataSource() instanceof HikariDataSource hikariDataSource) {
+                hikariDataSource.close();
+            }
+        }
+    }
+
+    public enum Strategy {
+        WEIGHTED_ROUND_ROBIN,
+        LEAST_OUTSTANDING
+    }
+}
@@ -0,0 +1,144 @@
+package com.foodcom.firstpro.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 직후 읽기 일관성 (Read-Your-Writes).
+ * 사용자가 쓰기 트랜잭션을 커밋하면 window 동안 그 사용자의 읽기 전용 트랜잭션을 Master로 보낸다 (복제 지연으로 방금 쓴 내용이 안 보이는 것 방지).
+ * <p>
+ * - 표시는 인스턴스 메모리에 두고, redis.enabled=true면 Redis에도 남겨 다른 인스턴스로 간 요청에도 적용한다.
+ *   (이 경우 메모리에 표시가 없는 읽기마다 Redis 조회 1회가 추가된다)
+ * - Redis 장애 시에는 잠시 동안 메모리 표시만 사용한다.
+ */
+@Slf4j
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "ryw:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxEntries;
+    private final boolean redisEnabled;
+    private final long failureBackoffMillis;
+
+    // 로그인 아이디 -> Master 고정 만료 시각
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    // Redis 오류 발생 시 이 시각까지는 Redis를 호출하지 않음
+    private volatile long bypassUntil = 0L;
+
+    private final Counter markedCounter;
+    private final Counter errorCounter;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${db.read-your-writes.enabled:true}") boolean enabled,
+                                 @Value("${db.read-your-writes.window:5s}") Duration window,
+                                 @Value("${db.read-your-writes.max-entries:100000}") int maxEntries,
+                                 @Value("${db.read-your-writes.redis.enabled:false}") boolean redisEnabled,
+                                 @Value("${db.read-your-writes.redis.failure-backoff-ms:5000}") long failureBackoffMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.maxEntries = maxEntries;
+        this.redisEnabled = redisEnabled;
+        this.failureBackoffMillis = failureBackoffMillis;
+
+        this.markedCounter = meterRegistry.counter("db.read-your-writes.marked");
+        this.errorCounter = meterRegistry.counter("db.read-your-writes.redis.error");
+        meterRegistry.gaugeMapSize("db.read-your-writes.size", Tags.empty(), pinnedUntil);
+    }
+
+    /**
+     * @return 현재 요청의 로그인 아이디, 인증되지 않았으면 null
+     */
+    public String currentPrincipal() {
+        if (!enabled) {
+            return null;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    // 쓰기 트랜잭션 커밋 후 호출
+    public void markWrite(String principal) {
+        long now = System.currentTimeMillis();
+        if (pinnedUntil.size() >= maxEntries) {
+            pinnedUntil.values().removeIf(until -> until <= now);
+        }
+        if (pinnedUntil.size() < maxEntries) {
+            pinnedUntil.put(principal, now + windowMillis);
+        }
+        markedCounter.increment();
+
+        if (useRedis()) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + principal, "1", windowMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                onRedisError(e);
+            }
+        }
+    }
+
+    /**
+     * @return 최근 쓰기가 있어 Master에서 읽어야 하면 true
+     */
+    public boolean isPinned(String principal) {
+        long now = System.currentTimeMillis();
+        Long until = pinnedUntil.get(principal);
+        if (until != null) {
+            if (now < until) {
+                return true;
+            }
+            pinnedUntil.remove(principal, until);
+        }
+
+        if (!useRedis()) {
+            return false;
+        }
+        try {
+            Long remainingMillis = redisTemplate.getExpire(KEY_PREFIX + principal, TimeUnit.MILLISECONDS);
+            if (remainingMillis == null || remainingMillis <= 0) {
+                return false;
+            }
+            // 다른 인스턴스에서 쓴 표시: 남은 시간 동안은 메모리에서 바로 확인
+            pinnedUntil.put(principal, now + remainingMillis);
+            return true;
+        } catch (Exception e) {
+            onRedisError(e);
+            return false;
+        }
+    }
+
+    private boolean useRedis() {
+        return redisEnabled && System.currentTimeMillis() >= bypassUntil;
+    }
+
+    private void onRedisError(Exception e) {
+        errorCounter.increment();
+        bypassUntil = System.currentTimeMillis() + failureBackoffMillis;
+        log.warn(">> 쓰기 후 읽기 표시 Redis 처리 실패 ({}ms 동안 메모리 표시만 사용): {}", failureBackoffMillis, e.getMessage());
+    }
+}
@@ -0,0 +1,223 @@
+package com.foodcom.firstpro.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 상태 확인 두 가지를 전용 스레드에서 주기적으로 실행한다.
+ * <p>
+ * - 상태 확인: 커넥션 유효성(Connection.isValid). 연속 failureThreshold회 실패하면 라우팅에서 제외하고, 한 번이라도 성공하면 다시 포함한다.
+ * - 복제 지연: Master의 replication_heartbeat 테이블에서 인스턴스마다 자기 행에 현재 시각을 기록하고,
+ *   각 복제본에서 그 행을 읽어 차이를 지연으로 본다. 기록과 비교 모두 같은 인스턴스의 시계를 쓰므로 인스턴스 간 시계 차이가 섞이지 않는다.
+ *   지연이 maxLag를 넘으면 라우팅에서 제외하고, recoverLag 이하로 내려와야 다시 포함한다 (경계 근처에서 오가지 않도록).
+ * <p>
+ * 커넥션을 얻는 데 오래 걸릴 수 있으므로 @Scheduled 공용 스레드가 아닌 전용 스레드에서 실행한다.
+ * 복제본마다 스레드를 따로 두어, 한 복제본의 getConnection이 풀의 connectionTimeout만큼 막혀도 다른 복제본의 확인과 하트비트 기록은 늦어지지 않는다.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private static final String UPDATE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = ?";
+    private static final String INSERT_HEARTBEAT = "INSERT INTO replication_heartbeat (id, beat_at) VALUES (?, ?)";
+    private static final String SELECT_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = ?";
+    private static final String DELETE_HEARTBEAT = "DELETE FROM replication_heartbeat WHERE id = ?";
+
+    private final ReadReplicas readReplicas;
+    private final DataSource masterDataSource;
+    private final int failureThreshold;
+    private final int probeTimeoutSeconds;
+    private final long maxLagMillis;
+    private final long recoverLagMillis;
+
+    // 인스턴스별 하트비트 행 (다른 인스턴스의 기록을 덮어쓰지 않도록)
+    private final long heartbeatId = UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE;
+
+    // Master 하트비트 기록 전용, 복제본별 상태 확인/하트비트 조회 전용
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final Map<String, ScheduledExecutorService> replicaSchedulers = new HashMap<>();
+    // 조회가 아직 끝나지 않은 복제본에는 하트비트 조회를 더 쌓지 않음
+    private final Set<String> pendingLagReads = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> consecutiveFailures = new ConcurrentHashMap<>();
+    private final Counter ejectedCounter;
+    private final Counter divertedCounter;
+
+    public ReplicaHealthChecker(ReadReplicas readReplicas, DataSource masterDataSource, MeterRegistry meterRegistry,
+                                int failureThreshold, int probeTimeoutSeconds,
+                                long maxLagMillis, long recoverLagMillis) {
+        if (recoverLagMillis > maxLagMillis) {
+            throw new IllegalArgumentException("recoverLag는 maxLag 이하여야 합니다.");
+        }
+        this.readReplicas = readReplicas;
+        this.masterDataSource = masterDataSource;
+        this.failureThreshold = failureThreshold;
+        this.probeTimeoutSeconds = probeTimeoutSeconds;
+        this.maxLagMillis = maxLagMillis;
+        this.recoverLagMillis = recoverLagMillis;
+        this.ejectedCounter = meterRegistry.counter("db.replica.ejected");
+        this.divertedCounter = meterRegistry.counter("db.replica.lag.diverted");
+
+        this.heartbeatScheduler = newScheduler("replica-heartbeat");
+        for (ReadReplica replica : readReplicas.getReplicas()) {
+            replicaSchedulers.put(replica.getName(), newScheduler("replica-health-" + replica.getName()));
+        }
+    }
+
+    /**
+     * @param heartbeatIntervalMillis 0 이하이면 복제 지연을 측정하지 않음
+     */
+    public void start(long intervalMillis, long heartbeatIntervalMillis) {
+        for (ReadReplica replica : readReplicas.getReplicas()) {
+            replicaSchedulers.get(replica.getName()).scheduleWithFixedDelay(() -> check(replica),
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        if (heartbeatIntervalMillis > 0) {
+            heartbeatScheduler.scheduleWithFixedDelay(this::measureLag, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 빈 소멸 시 호출
+    public void close() {
+        heartbeatScheduler.shutdownNow();
+        replicaSchedulers.values().forEach(ScheduledExecutorService::shutdownNow);
+        deleteHeartbeat();
+    }
+
+    void probeAll() {
+        for (ReadReplica replica : readReplicas.getReplicas()) {
+            check(replica);
+        }
+    }
+
+    void check(ReadReplica replica) {
+        if (probe(replica)) {
+            consecutiveFailures.put(replica.getName(), 0);
+            if (!replica.isHealthy()) {
+                replica.markHealthy(true);
+                log.info(">> 복제본 {} 복구, 읽기 라우팅에 다시 포함", replica.getName());
+            }
+            return;
+        }
+
+        int failures = consecutiveFailures.merge(replica.getName(), 1, Integer::sum);
+        if (failures >= failureThreshold && replica.isHealthy()) {
+            replica.markHealthy(false);
+            ejectedCounter.increment();
+            log.warn(">> 복제본 {} 상태 확인 {}회 연속 실패, 읽기 라우팅에서 제외", replica.getName(), failures);
+        }
+    }
+
+    void measureLag() {
+        long beatAt = System.currentTimeMillis();
+        try {
+            writeHeartbeat(beatAt);
+        } catch (SQLException e) {
+            // 스키마 생성 전이거나 Master 장애: 이번 측정은 건너뜀
+            log.debug(">> 복제 하트비트 기록 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (ReadReplica replica : readReplicas.getReplicas()) {
+            if (!replica.isHealthy() || !pendingLagReads.add(replica.getName())) {
+                continue;
+            }
+            replicaSchedulers.get(replica.getName()).execute(() -> {
+                try {
+                    Long replicatedBeatAt = readHeartbeat(replica);
+                    if (replicatedBeatAt != null) {
+                        updateLag(replica, Math.max(0, System.currentTimeMillis() - replicatedBeatAt));
+                    }
+                } finally {
+                    pendingLagReads.remove(replica.getName());
+                }
+            });
+        }
+    }
+
+    void updateLag(ReadReplica replica, long lagMillis) {
+        replica.recordLag(lagMillis);
+
+        if (!replica.isLagging() && lagMillis > maxLagMillis) {
+            replica.markLagging(true);
+            divertedCounter.increment();
+            log.warn(">> 복제본 {} 복제 지연 {}ms (기준 {}ms), 읽기 라우팅에서 제외", replica.getName(), lagMillis, maxLagMillis);
+        } else if (replica.isLagging() && lagMillis <= recoverLagMillis) {
+            replica.markLagging(false);
+            log.info(">> 복제본 {} 복제 지연 {}ms로 회복, 읽기 라우팅에 다시 포함", replica.getName(), lagMillis);
+        }
+    }
+
+    private boolean probe(ReadReplica replica) {
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            return connection.isValid(probeTimeoutSeconds);
+        } catch (Exception e) {
+            log.debug(">> 복제본 {} 상태 확인 실패: {}", replica.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeHeartbeat(long beatAt) throws SQLException {
+        try (Connection connection = masterDataSource.getConnection()) {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_HEARTBEAT)) {
+                update.setLong(1, beatAt);
+                update.setLong(2, heartbeatId);
+                if (update.executeUpdate() > 0) {
+                    return;
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_HEARTBEAT)) {
+                insert.setLong(1, heartbeatId);
+                insert.setLong(2, beatAt);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    // 종료 시 자기 행 정리 (실패해도 남은 행은 다른 인스턴스의 측정에 영향 없음)
+    private void deleteHeartbeat() {
+        try (Connection connection = masterDataSource.getConnection();
+             PreparedStatement delete = connection.prepareStatement(DELETE_HEARTBEAT)) {
+            delete.setLong(1, heartbeatId);
+            delete.executeUpdate();
+        } catch (Exception e) {
+            log.debug(">> 복제 하트비트 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 읽지 못했거나 아직 복제되지 않았으면 null (지연 상태를 바꾸지 않음)
+    private Long readHeartbeat(ReadReplica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             PreparedStatement select = connection.prepareStatement(SELECT_HEARTBEAT)) {
+            select.setQueryTimeout(probeTimeoutSeconds);
+            select.setLong(1, heartbeatId);
+            try (ResultSet resultSet = select.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : null;
+            }
+        } catch (SQLException e) {
+            log.debug(">> 복제본 {} 하트비트 조회 실패: {}", replica.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static ScheduledExecutorService newScheduler(String threadName) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
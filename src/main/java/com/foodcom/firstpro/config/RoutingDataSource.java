@@ -1,19 +1,70 @@
 package com.foodcom.firstpro.config;
 
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 트랜잭션의 성격(읽기 전용 vs 쓰기 가능)에 따라
- * 사용할 DataSource Key(MASTER or SLAVE)를 결정하는 라우팅 로직
+ * 사용할 DataSource Key(MASTER or 복제본 이름)를 결정하는 라우팅 로직
+ * <p>
+ * 최근 쓰기가 있는 사용자의 읽기 전용 트랜잭션은 복제 지연을 피하려고 Master로 보낸다 ({@link ReadYourWritesTracker}).
+ * 헤지 읽기({@link HedgedRead})의 두 번째 시도는 첫 시도가 간 복제본을 피한다.
  */
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
+    // 트랜잭션당 한 번만 커밋 후 표시를 등록하기 위한 리소스 키
+    private static final Object WRITE_MARKER = new Object();
+
+    private final ReadReplicas readReplicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public RoutingDataSource(ReadReplicas readReplicas, ReadYourWritesTracker readYourWritesTracker) {
+        this.readReplicas = readReplicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
     @Override
     protected Object determineCurrentLookupKey() {
         // 현재 트랜잭션이 @Transactional(readOnly = true) 인지 확인
         boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        String principal = readYourWritesTracker.currentPrincipal();
+
+        if (!isReadOnly) {
+            if (principal != null) {
+                markAfterCommit(principal);
+            }
+            return readReplicas.master();
+        }
+
+        if (principal != null && readYourWritesTracker.isPinned(principal)) {
+            return readReplicas.pinnedToMaster();
+        }
+        // 읽기 전용이면 정상인 복제본 중 하나 (없으면 Master)
+        ReadAttempt attempt = ReadAttempt.current();
+        if (attempt == null) {
+            return readReplicas.chooseForRead();
+        }
+        String target = readReplicas.chooseForRead(attempt.excluded());
+        attempt.routedTo(target);
+        return target;
+    }
+
+    private void markAfterCommit(String principal) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
 
-        return isReadOnly ? "SLAVE" : "MASTER";
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, principal);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+                if (status == STATUS_COMMITTED) {
+                    readYourWritesTracker.markWrite(principal);
+                }
+            }
+        });
     }
 }
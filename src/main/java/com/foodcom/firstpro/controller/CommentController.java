@@ -1,7 +1,10 @@
 package com.foodcom.firstpro.controller;
 
+import com.foodcom.firstpro.auth.domain.AuthMember;
 import com.foodcom.firstpro.controller.advice.GlobalExceptionHandler;
 import com.foodcom.firstpro.domain.comment.CommentCreateDto;
+import com.foodcom.firstpro.domain.comment.CommentSliceResponse;
+import com.foodcom.firstpro.domain.common.KeysetCursor;
 import com.foodcom.firstpro.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,7 +22,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-@Tag(name = "댓글 관리", description = "댓글 생성, 수정, 삭제 API")
+@Tag(name = "댓글 관리", description = "댓글 조회, 생성, 수정, 삭제 API")
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
@@ -61,8 +64,28 @@ public class CommentController {
                         @Valid @RequestBody CommentCreateDto commentCreateDto,
 
                         @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
-                commentService.createComment(postId, commentCreateDto, userDetails.getUsername());
+                commentService.createComment(postId, commentCreateDto, AuthMember.memberIdOf(userDetails), userDetails.getUsername());
 
                 return ResponseEntity.status(HttpStatus.CREATED).build();
         }
+
+        @Operation(summary = "댓글 목록 조회", description = "특정 게시물의 댓글을 작성순으로 커서 기반 조회합니다. 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 전달합니다.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = CommentSliceResponse.class))),
+
+                        // 400 Bad Request (잘못된 커서 / size)
+                        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 size", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))),
+
+                        // 404 Not Found (게시물 없음)
+                        @ApiResponse(responseCode = "404", description = "대상 게시물을 찾을 수 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class)))
+        })
+        @GetMapping("/posts/{postId}/comments")
+        public ResponseEntity<CommentSliceResponse> getComments(
+                        @Parameter(description = "게시물 ID", required = true) @PathVariable("postId") Long postId,
+
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(value = "cursor", required = false) String cursor,
+
+                        @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(value = "size", defaultValue = "20") int size) {
+                return ResponseEntity.ok(commentService.getComments(postId, KeysetCursor.decode(cursor), size));
+        }
 }
@@ -0,0 +1,198 @@
+package com.foodcom.firstpro.controller;
+
+import com.foodcom.firstpro.auth.exception.ResourceNotFoundException;
+import com.foodcom.firstpro.storage.ImageContentTypes;
+import com.foodcom.firstpro.storage.LocalBlobStore;
+import com.foodcom.firstpro.storage.LocalUploadUrlSigner;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 저장소(storage.backend=local)의 파일을 서빙한다. 단일 Range 요청(206)을 지원한다.
+ * 서명된 업로드 URL(LocalUploadUrlSigner)로 들어오는 PUT 업로드도 받는다 (GCS 서명 URL 대체). 이미 있는 파일은 덮어쓰지 않는다.
+ * 허용한 이미지 형식({@link ImageContentTypes})이 아닌 파일은 nosniff + 다운로드로 내보낸다.
+ * <p>
+ * Tomcat이 sendfile을 지원하면 커널이 파일을 소켓으로 바로 보내고(zero-copy),
+ * 아니면 FileChannel.transferTo로 응답 스트림에 복사한다.
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalFileController {
+
+    private static final String PATH_PREFIX = "/files/";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalBlobStore localBlobStore;
+    private final LocalUploadUrlSigner localUploadUrlSigner;
+
+    @PutMapping(PATH_PREFIX + "**")
+    public void putFile(@RequestParam("expires") long expires,
+                        @RequestParam("max") long maxBytes,
+                        @RequestParam("signature") String signature,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = keyOf(request);
+
+        if (!localUploadUrlSigner.verify(key, request.getContentType(), maxBytes, expires, signature)) {
+            throw new AccessDeniedException("유효하지 않거나 만료된 업로드 URL입니다.");
+        }
+
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            response.setStatus(HttpStatus.LENGTH_REQUIRED.value());
+            return;
+        }
+        if (contentLength > maxBytes) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        // 이미 올라간 키는 덮어쓰지 않음 (GCS의 x-goog-if-generation-match: 0 과 같은 412 응답)
+        try (InputStream inputStream = request.getInputStream()) {
+            localBlobStore.createNew(key, inputStream);
+        } catch (FileAlreadyExistsException e) {
+            response.setStatus(HttpStatus.PRECONDITION_FAILED.value());
+            return;
+        }
+        response.setStatus(HttpStatus.OK.value());
+    }
+
+    @GetMapping(PATH_PREFIX + "**")
+    public void getFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = keyOf(request);
+        Path path = localBlobStore.resolve(key);
+
+        // 쓰는 중인 임시 파일(.upload-*.tmp) 등 점으로 시작하는 파일은 서빙하지 않음
+        if (path.getFileName().toString().startsWith(".") || !Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("파일을 찾을 수 없습니다.");
+        }
+
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && range.startsWith("bytes=") && !range.contains(",")) {
+            long[] parsed = parseRange(range.substring("bytes=".length()), length);
+            if (parsed == null) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            start = parsed[0];
+            end = parsed[1];
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        } else {
+            // 여러 구간 Range는 무시하고 전체 응답 (RFC 9110 허용)
+            response.setStatus(HttpStatus.OK.value());
+        }
+
+        long count = end - start + 1;
+        // 허용한 이미지 형식만 그 타입으로, 나머지는 다운로드로 (같은 출처에서 HTML/SVG로 해석되지 않도록)
+        MediaType mediaType = ImageContentTypes.servedTypeOf(key).orElse(null);
+        if (mediaType != null) {
+            response.setContentType(mediaType.toString());
+        } else {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 키에 UUID가 포함되어 같은 키의 내용이 바뀌지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+        response.setContentLengthLong(count);
+
+        if (count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private String keyOf(HttpServletRequest request) {
+        String rawKey = request.getRequestURI().substring(request.getContextPath().length() + PATH_PREFIX.length());
+        return UriUtils.decode(rawKey, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * "start-end", "start-", "-suffixLength" 형식의 단일 구간을 해석한다.
+     *
+     * @return {start, end} (end 포함), 만족할 수 없는 구간이면 null
+     */
+    private long[] parseRange(String spec, long length) {
+        int dash = spec.indexOf('-');
+        if (dash < 0 || length == 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+
+            if (first.isEmpty()) {
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    return null;
+                }
+                return new long[]{Math.max(0, length - suffixLength), length - 1};
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
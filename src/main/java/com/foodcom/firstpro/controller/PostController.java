@@ -1,6 +1,8 @@
 package com.foodcom.firstpro.controller;
 
+import com.foodcom.firstpro.auth.domain.AuthMember;
 import com.foodcom.firstpro.controller.advice.GlobalExceptionHandler;
+import com.foodcom.firstpro.domain.common.KeysetCursor;
 import com.foodcom.firstpro.domain.post.*;
 import com.foodcom.firstpro.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -74,6 +76,46 @@ public class PostController {
                 }
         }
 
+        @Operation(summary = "이미지 직접 업로드 URL 발급", description = "이미지를 API 서버를 거치지 않고 저장소로 직접 올릴 수 있는 서명된 URL을 발급합니다. 업로드를 마친 뒤 key 목록으로 게시물 등록(JSON)을 호출합니다.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "발급 성공", content = @Content(schema = @Schema(implementation = UploadUrlResponseDto.class))),
+                        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터", content = @Content(schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class), examples = @ExampleObject(name = "유효성 검사 실패 예시", value = "{\"code\": \"Validation Failed\", \"message\": {\"images[0].contentType\": \"이미지 파일만 업로드할 수 있습니다.\"}}"))),
+                        @ApiResponse(responseCode = "401", description = "인증 실패 (토큰 없음)", content = @Content(schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class), examples = @ExampleObject(name = "인증 실패", value = "{\"code\": \"인증 실패\", \"message\": \"Access Token이 유효하지 않거나 필요합니다.\"}")))
+        })
+        @PostMapping(value = "/uploads", consumes = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<UploadUrlResponseDto> issueUploadUrls(
+                        @RequestBody @Valid UploadUrlRequestDto requestDto,
+
+                        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+                return ResponseEntity.ok(postService.issueUploadUrls(requestDto.getImages(), userDetails.getUsername()));
+        }
+
+        @Operation(summary = "새 게시물 생성 (직접 업로드한 이미지)", description = "업로드 URL 발급 응답의 key 목록으로 게시물을 생성합니다. 이미지 바이트는 전송하지 않습니다. 성공 시 Location 헤더에 새 리소스 URI를 반환합니다.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "게시물 생성 성공. Location 헤더 확인 posts/id 호출", content = @Content(schema = @Schema(implementation = Void.class))),
+                        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 업로드되지 않았거나 만료된 이미지 키", content = @Content(schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class), examples = @ExampleObject(name = "이미지 키 오류", value = "{\"code\": \"잘못된 요청\", \"message\": \"만료되었거나 이미 사용된 이미지 키입니다.\"}"))),
+                        @ApiResponse(responseCode = "401", description = "인증 실패 (토큰 없음)", content = @Content(schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class), examples = @ExampleObject(name = "인증 실패", value = "{\"code\": \"인증 실패\", \"message\": \"Access Token이 유효하지 않거나 필요합니다.\"}")))
+        })
+        @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<Void> createPostFromUploads(
+                        @RequestBody @Valid PostCommitRequestDto requestDto,
+
+                        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+                Post newPost = postService.createPostFromUploads(
+                                requestDto.getTitle(),
+                                requestDto.getContent(),
+                                requestDto.getImageKeys(),
+                                AuthMember.memberIdOf(userDetails),
+                                userDetails.getUsername());
+
+                URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                                .path("/{id}")
+                                .buildAndExpand(newPost.getId())
+                                .toUri();
+
+                return ResponseEntity.created(location).build();
+        }
+
         @Operation(summary = "게시물 상세 조회", description = "UUID를 통해 특정 게시물의 상세 정보를 조회합니다.")
         @ApiResponses(value = {
                         // 200 OK
@@ -151,13 +193,19 @@ public class PostController {
                 return ResponseEntity.noContent().build();
         }
 
-        @Operation(summary = "게시물 목록 조회 (홈 화면)", description = "전체 게시물을 최신순으로 10개씩 조회합니다.")
+        @Operation(summary = "게시물 목록 조회 (홈 화면)", description = "전체 게시물을 최신순으로 10개씩 조회합니다. cursor 파라미터를 전달하면(첫 페이지는 빈 값) COUNT 없이 커서 기반으로 조회합니다.")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = PostPageResponse.class)))
+                        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = PostPageResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = @Content(schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class), examples = @ExampleObject(name = "커서 오류", value = "{\"code\": \"잘못된 요청\", \"message\": \"유효하지 않은 커서입니다: abc\"}")))
         })
         @GetMapping("")
         public ResponseEntity<PostPageResponse> getPostList(
-                        @Parameter(description = "페이지 번호 (1부터 시작)", example = "1") @RequestParam(value = "page", defaultValue = "1") int page) {
+                        @Parameter(description = "페이지 번호 (1부터 시작)", example = "1") @RequestParam(value = "page", defaultValue = "1") int page,
+                        @Parameter(description = "이전 응답의 nextCursor (커서 모드, 첫 페이지는 빈 값)") @RequestParam(value = "cursor", required = false) String cursor) {
+                if (cursor != null) {
+                        return ResponseEntity.ok(postService.getPostList(KeysetCursor.decode(cursor), 10));
+                }
+
                 int pageIndex = (page <= 0) ? 0 : page - 1;
 
                 Pageable pageable = PageRequest.of(pageIndex, 10, Sort.by(Sort.Direction.DESC, "modifiedAt"));
@@ -1,6 +1,8 @@
 package com.foodcom.firstpro.controller;
 
+import com.foodcom.firstpro.auth.domain.AuthMember;
 import com.foodcom.firstpro.controller.advice.GlobalExceptionHandler;
+import com.foodcom.firstpro.domain.common.KeysetCursor;
 import com.foodcom.firstpro.domain.member.MemberUpdateDto;
 import com.foodcom.firstpro.domain.post.MyPageResponse;
 import com.foodcom.firstpro.service.UserService;
@@ -30,7 +32,7 @@ public class UserController {
 
     private final UserService userService;
 
-    @Operation(summary = "마이페이지 정보 조회", description = "로그인된 사용자의 상세 정보를 조회합니다.")
+    @Operation(summary = "마이페이지 정보 조회", description = "로그인된 사용자의 상세 정보를 조회합니다. cursor 파라미터를 전달하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다.")
     @ApiResponse(
             responseCode = "200",
             description = "조회 성공",
@@ -53,15 +55,22 @@ public class UserController {
     @GetMapping("")
     public ResponseEntity<MyPageResponse> getMyInfo(
             @AuthenticationPrincipal UserDetails userDetails,
-            @RequestParam(value = "page", defaultValue = "1") int page
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
         String loginId = userDetails.getUsername();
+        Long memberId = AuthMember.memberIdOf(userDetails);
+
+        // cursor 파라미터가 있으면(첫 페이지는 빈 값) COUNT 없는 커서 모드로 조회
+        if (cursor != null) {
+            return ResponseEntity.ok(userService.getMyPageDetails(memberId, loginId, KeysetCursor.decode(cursor), 10));
+        }
 
         int pageIndex = (page <= 0) ? 0 : page - 1;
 
         Pageable pageable = PageRequest.of(pageIndex, 10, Sort.by(Sort.Direction.DESC, "modifiedAt"));
 
-        MyPageResponse response = userService.getMyPageDetails(loginId, pageable);
+        MyPageResponse response = userService.getMyPageDetails(memberId, loginId, pageable);
 
         return ResponseEntity.ok(response);
     }
@@ -108,7 +117,7 @@ public class UserController {
     ) {
         String userId = userDetails.getUsername();
 
-        userService.updateMyInfo(userId, updateDto);
+        userService.updateMyInfo(AuthMember.memberIdOf(userDetails), userId, updateDto);
 
         return ResponseEntity.noContent().build();
     }
@@ -1,5 +1,6 @@
 package com.foodcom.firstpro.controller.advice;
 
+import com.foodcom.firstpro.auth.exception.HashingUnavailableException;
 import com.foodcom.firstpro.auth.exception.LoginFailureException;
 import com.foodcom.firstpro.auth.exception.ResourceNotFoundException;
 import com.foodcom.firstpro.auth.exception.TokenException;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor; // ✨ import 추가
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -103,6 +105,17 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("Internal Server Error", "서버 처리 중 예상치 못한 오류가 발생했습니다."));
     }
 
+    // 비밀번호 해시 대기열 초과 (HTTP 503, 잠시 후 재시도)
+    @ExceptionHandler(HashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleHashingUnavailableException(HashingUnavailableException ex) {
+        tagError("Service Unavailable", ex);
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("Service Unavailable", ex.getMessage()));
+    }
+
     // 찾는 리소스 없을 경우 404
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(ResourceNotFoundException ex) {
@@ -0,0 +1,180 @@
+package com.foodcom.firstpro.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시물 댓글 수 증가분을 메모리에 모아 두었다가 주기적으로 한 번의 배치 UPDATE로 반영한다 (Write-Behind).
+ * <p>
+ * - 댓글 작성 트랜잭션에서 post 행을 UPDATE하지 않으므로, 인기 게시물에 댓글이 몰려도 행 잠금 대기가 생기지 않는다.
+ * - 증가분은 ConcurrentHashMap의 버킷 단위 잠금으로만 합산된다 (게시물마다 다른 버킷).
+ * - 목록 조회 시 {@link #getPendingSince(Long, long)}로 아직 반영되지 않은 증가분과, 반영됐지만 그 페이지를 읽은 시점
+ *   (복제 지연 포함)에는 없었을 수 있는 증가분을 더해서 보여준다.
+ *   반영한 증가분은 피드 캐시 TTL + replica-lag 동안 보관하므로, 반영할 때마다 피드 캐시를 비우지 않아도 댓글 수가 줄어 보이지 않는다.
+ * - 증가분은 댓글 작성 트랜잭션이 커밋된 뒤에만 쌓인다 (롤백된 댓글은 세지 않음).
+ * - 배치 UPDATE는 하나의 트랜잭션으로 실행해 전부 반영되거나 전부 롤백된다.
+ *   실패하면 증가분을 다시 버퍼에 합쳐 다음 주기에 재시도하고(중복 반영 없음), 종료 시에도 남은 증가분을 반영한다.
+ */
+@Slf4j
+@Component
+public class CommentCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE post SET comment_count = comment_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long replicaLagMillis;
+    private final long retentionMillis;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 최근에 반영한 증가분 (게시물 ID -> 반영 시각순 목록, 목록은 통째로 교체)
+    private final Map<Long, List<FlushedDelta>> recentlyFlushed = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+
+    public CommentCountBuffer(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${counter.comment.replica-lag:2s}") Duration replicaLag,
+                              @Value("${cache.post-page.ttl:30s}") Duration pageCacheTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.replicaLagMillis = replicaLag.toMillis();
+        this.retentionMillis = pageCacheTtl.toMillis() + replicaLagMillis;
+
+        this.flushedCounter = meterRegistry.counter("comment.count.buffer.flushed");
+        this.failureCounter = meterRegistry.counter("comment.count.buffer.failure");
+        meterRegistry.gaugeMapSize("comment.count.buffer.pending", List.of(), pending);
+    }
+
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    // 댓글 작성 트랜잭션 안에서 호출: 커밋된 경우에만 증가분을 쌓음
+    public void incrementAfterCommit(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(postId);
+                }
+            });
+        } else {
+            increment(postId);
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 증가분 (없으면 0)
+    public long getPending(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * loadedAt에 읽기 시작한 페이지에 빠져 있을 수 있는 증가분: 아직 반영되지 않은 것 + loadedAt - replica-lag 이후에 반영한 것.
+     * 복제 지연 구간 안에서 이미 복제본에 반영된 증가분은 잠시 중복으로 더해질 수 있다 (줄어 보이는 것보다 낫다).
+     */
+    public long getPendingSince(Long postId, long loadedAt) {
+        long delta = getPending(postId);
+        List<FlushedDelta> flushed = recentlyFlushed.get(postId);
+        if (flushed != null) {
+            long since = loadedAt - replicaLagMillis;
+            for (FlushedDelta entry : flushed) {
+                if (entry.flushedAt() > since) {
+                    delta += entry.delta();
+                }
+            }
+        }
+        return delta;
+    }
+
+    @Scheduled(fixedDelayString = "${counter.comment.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info(">> 종료 전 댓글 수 증가분 반영 완료: {}건", flushed);
+    }
+
+    /**
+     * 버퍼에 쌓인 증가분을 꺼내서 배치 UPDATE로 반영한다.
+     *
+     * @return 반영한 게시물 수
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // remove로 꺼낸 이후의 증가분은 새 항목으로 쌓이므로 유실되지 않는다.
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long postId : pending.keySet()) {
+            Long delta = pending.remove(postId);
+            if (delta != null && delta != 0) {
+                batchArgs.add(new Object[]{delta, postId});
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            // 일부만 반영된 채로 실패하면 재시도 시 중복 반영되므로 한 트랜잭션으로 실행
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (Exception e) {
+            failureCounter.increment();
+            for (Object[] args : batchArgs) {
+                pending.merge((Long) args[1], (Long) args[0], Long::sum);
+            }
+            log.warn(">> 댓글 수 증가분 반영 실패 (다음 주기에 재시도, 게시물 {}건): {}", batchArgs.size(), e.getMessage());
+            return 0;
+        }
+
+        flushedCounter.increment(batchArgs.size());
+        rememberFlushed(batchArgs, System.currentTimeMillis());
+        return batchArgs.size();
+    }
+
+    // 반영 시각을 기록하고, 캐시 TTL + 복제 지연이 지난 기록은 버림 (그보다 먼저 읽은 페이지는 남아 있지 않음)
+    private void rememberFlushed(List<Object[]> batchArgs, long flushedAt) {
+        for (Object[] args : batchArgs) {
+            FlushedDelta entry = new FlushedDelta(flushedAt, (Long) args[0]);
+            recentlyFlushed.merge((Long) args[1], List.of(entry), (previous, added) -> {
+                List<FlushedDelta> merged = new ArrayList<>(previous);
+                merged.addAll(added);
+                return List.copyOf(merged);
+            });
+        }
+
+        long expiredBefore = flushedAt - retentionMillis;
+        recentlyFlushed.replaceAll((postId, entries) -> entries.stream()
+                .filter(entry -> entry.flushedAt() >= expiredBefore)
+                .toList());
+        recentlyFlushed.values().removeIf(List::isEmpty);
+    }
+
+    private record FlushedDelta(long flushedAt, long delta) {
+    }
+}
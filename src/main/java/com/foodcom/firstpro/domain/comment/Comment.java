@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(indexes = {
-        @Index(name = "idx_comment_post_id", columnList = "post_id")
+        // 게시물별 댓글을 작성순으로 커서 조회 (post_id 단독 인덱스 역할도 겸함)
+        @Index(name = "idx_comment_post_created_at", columnList = "post_id, createdAt, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
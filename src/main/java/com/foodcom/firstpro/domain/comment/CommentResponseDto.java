@@ -26,4 +26,12 @@ public class CommentResponseDto {
         this.writer = comment.getMember().getLoginId();
         this.createdAt = comment.getCreatedAt();
     }
+
+    // JPQL DTO Projection용 생성자
+    public CommentResponseDto(Long id, String content, String writer, LocalDateTime createdAt) {
+        this.id = id;
+        this.content = content;
+        this.writer = writer;
+        this.createdAt = createdAt;
+    }
 }
\ No newline at end of file
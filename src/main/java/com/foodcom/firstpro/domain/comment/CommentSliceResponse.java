@@ -0,0 +1,22 @@
+package com.foodcom.firstpro.domain.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "댓글 목록(커서 페이지) 응답 DTO")
+@Getter
+@Builder
+public class CommentSliceResponse {
+
+    @Schema(description = "작성순으로 정렬된 댓글 목록")
+    private List<CommentResponseDto> comments;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNC0xMS0yOVQxODozMDowMF8xNQ")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
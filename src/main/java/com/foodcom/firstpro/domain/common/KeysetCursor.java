@@ -0,0 +1,56 @@
+package com.foodcom.firstpro.domain.common;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(Keyset) 페이지네이션용 위치 정보.
+ * 정렬 기준 시각과 동률을 깨기 위한 PK를 묶어 클라이언트에는 불투명한 문자열 토큰으로만 노출한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public static KeysetCursor of(LocalDateTime timestamp, Long id) {
+        return new KeysetCursor(timestamp, id);
+    }
+
+    /**
+     * @param token 클라이언트가 전달한 커서 문자열 (빈 문자열이면 첫 페이지)
+     * @return 첫 페이지 요청이면 null
+     */
+    public static KeysetCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            LocalDateTime timestamp = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.parseLong(raw.substring(index + 1));
+
+            return new KeysetCursor(timestamp, id);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.foodcom.firstpro.domain.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 복제 지연 측정용 하트비트 (애플리케이션 인스턴스마다 행 1개, id는 인스턴스가 시작할 때 임의로 정함).
+ * ReplicaHealthChecker가 Master의 자기 행에 주기적으로 beatAt을 기록하고, 각 복제본에서 읽은 값과 현재 시각의 차이를 지연으로 본다.
+ * (JPA로 다루지 않으며, 스키마 생성을 위해서만 엔티티로 선언)
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplicationHeartbeat {
+
+    @Id
+    private Long id;
+
+    // 기록 시각 (epoch 밀리초)
+    @Column(nullable = false)
+    private long beatAt;
+}
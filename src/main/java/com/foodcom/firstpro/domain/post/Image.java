@@ -3,6 +3,10 @@ package com.foodcom.firstpro.domain.post;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 @Entity
 @Table(indexes = {
         @Index(name = "idx_image_post_id", columnList = "post_id")
@@ -20,16 +24,58 @@ public class Image {
 
     private String filename;
 
+    // 업로드 시 생성한 리사이즈 이미지 (생성하지 못한 경우 null -> 원본 사용)
+    private String thumbnailUrl;
+
+    private String detailUrl;
+
+    // 원본 SHA-256 (중복 제거 인덱스 blob_content 키, 인덱스 없이 저장된 파일은 null)
+    @Column(length = 64)
+    private String contentHash;
+
+    // 이번 요청에서 새로 올린 파일 (저장 트랜잭션에서 인덱스에 등록하고, 저장 실패 시 삭제 대상). DB에 저장하지 않음
+    @Transient
+    private boolean newlyUploaded;
+
     @Setter
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
     @Builder
-    public Image(String url, String filename, Post post) {
+    public Image(String url, String filename, String thumbnailUrl, String detailUrl, String contentHash, Post post) {
         this.url = url;
         this.filename = filename;
+        this.thumbnailUrl = thumbnailUrl;
+        this.detailUrl = detailUrl;
+        this.contentHash = contentHash;
         this.post = post;
     }
 
+    public void markNewlyUploaded() {
+        this.newlyUploaded = true;
+    }
+
+    // 같은 내용이 먼저 등록된 경우 인덱스 없이 단독 파일로 저장
+    public void detachContent() {
+        this.contentHash = null;
+    }
+
+    // 피드 카드용 작은 이미지 (없으면 원본)
+    public String getThumbnailUrlOrOriginal() {
+        return thumbnailUrl != null ? thumbnailUrl : url;
+    }
+
+    // 상세 화면용 이미지 (없으면 원본)
+    public String getDetailUrlOrOriginal() {
+        return detailUrl != null ? detailUrl : url;
+    }
+
+    // 이 이미지로 저장된 모든 파일 (원본 + 리사이즈본)
+    public List<String> getAllUrls() {
+        return Stream.of(url, thumbnailUrl, detailUrl)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
 }
@@ -22,5 +22,6 @@ public class MyPageResponse {
     private boolean last;       // 마지막 페이지인지 (Next 버튼 비활성화용)
     private int size;           // 한 페이지당 크기
     private int number;         // 현재 페이지 번호
+    private String nextCursor;  // 다음 페이지 커서 (커서 모드에서만 사용, 마지막 페이지면 null)
 
 }
\ No newline at end of file
@@ -16,7 +16,8 @@ import java.util.List;
 @Getter
 @Table(indexes = {
         @Index(name = "idx_member_id", columnList = "member_id"),
-        @Index(name = "idx_modified_at", columnList = "modifiedAt")
+        @Index(name = "idx_modified_at", columnList = "modifiedAt"),
+        @Index(name = "idx_member_modified_at", columnList = "member_id, modifiedAt")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -73,7 +74,7 @@ public class Post {
 
     public void updateThumbnail() {
         if (this.images != null && !this.images.isEmpty()) {
-            this.thumbnailUrl = this.images.get(0).getUrl();
+            this.thumbnailUrl = this.images.get(0).getThumbnailUrlOrOriginal();
         } else {
             this.thumbnailUrl = null;
         }
@@ -0,0 +1,31 @@
+package com.foodcom.firstpro.domain.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시물 생성 요청 DTO (이미지를 저장소에 직접 업로드한 경우)")
+public class PostCommitRequestDto {
+
+    @NotBlank(message = "제목은 필수로 입력해야 합니다.")
+    @Size(max = 100, message = "제목은 100자를 초과할 수 없습니다.")
+    @Schema(description = "게시물 제목", example = "새로운 맛집을 소개합니다", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String title;
+
+    @NotBlank(message = "내용은 필수로 입력해야 합니다.")
+    @Schema(description = "게시물 내용", example = "맛있어요", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String content;
+
+    @Size(max = 10, message = "이미지는 최대 10개까지 첨부할 수 있습니다.")
+    @Schema(description = "업로드 URL 발급 응답의 key 목록 (첫 번째 이미지가 썸네일, 생략 가능)",
+            example = "[\"post-images/uploads/testuser/550e8400-e29b-41d4-a716-446655440000-pasta.jpg\"]")
+    private List<String> imageKeys;
+}
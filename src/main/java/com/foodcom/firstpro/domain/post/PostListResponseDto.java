@@ -1,5 +1,6 @@
 package com.foodcom.firstpro.domain.post;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -30,6 +31,7 @@ public class PostListResponseDto {
     @Schema(description = "댓글 개수", example = "12")
     private final int commentCount;
 
+    @JsonCreator // JPQL 생성자 표현식 + Redis 캐시 역직렬화 겸용
     public PostListResponseDto(Long id, String title, String writer, String thumbnailUrl, LocalDateTime createdAt,
             LocalDateTime modifiedAt, int commentCount) {
         this.id = id;
@@ -40,4 +42,13 @@ public class PostListResponseDto {
         this.modifiedAt = modifiedAt;
         this.commentCount = commentCount;
     }
+
+    // 아직 DB에 반영되지 않은 댓글 수 증가분을 더한 사본
+    public PostListResponseDto plusCommentCount(long delta) {
+        if (delta == 0) {
+            return this;
+        }
+        return new PostListResponseDto(id, title, writer, thumbnailUrl, createdAt, modifiedAt,
+                (int) (commentCount + delta));
+    }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.foodcom.firstpro.domain.post;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized // Redis 캐시에서 역직렬화할 때 Builder 사용
 public class PostPageResponse {
     private List<PostListResponseDto> postList;
     private long totalElements; // 전체 게시물 수
@@ -14,4 +17,9 @@ public class PostPageResponse {
     private int number;         // 현재 페이지
     private boolean last;       // 마지막 페이지 여부
     private boolean first;      // 첫 페이지 여부
+    private String nextCursor;  // 다음 페이지 커서 (커서 모드에서만 사용, 마지막 페이지면 null)
+
+    // DB에서 읽기 시작한 시각 (epoch ms, 댓글 수 증가분 보정용). 응답에는 넣지 않고 캐시에는 따로 저장
+    @JsonIgnore
+    private long loadedAt;
 }
\ No newline at end of file
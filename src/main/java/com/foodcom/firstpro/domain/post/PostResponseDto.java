@@ -1,6 +1,7 @@
 package com.foodcom.firstpro.domain.post;
 
 import com.foodcom.firstpro.domain.comment.CommentResponseDto;
+import com.foodcom.firstpro.domain.comment.CommentSliceResponse;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -19,9 +20,14 @@ public class PostResponseDto {
     private LocalDateTime createdAt;
 
     private List<String> imageUrls;
-    private List<CommentResponseDto> comments;
-
-    public PostResponseDto(Post post) {
+    private List<CommentResponseDto> comments;       // 댓글 첫 페이지만 포함
+    private String commentsNextCursor;               // GET /posts/{postId}/comments?cursor= 로 이어서 조회 (없으면 null)
+
+    /**
+     * @param post     작성자(member)와 이미지(images)가 이미 로딩된 게시물 (PostRepository.findDetailById)
+     * @param comments 댓글 첫 페이지
+     */
+    public PostResponseDto(Post post, CommentSliceResponse comments) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.content = post.getContent();
@@ -29,11 +35,10 @@ public class PostResponseDto {
         this.createdAt = post.getCreatedAt();
 
         this.imageUrls = post.getImages().stream()
-                .map(Image::getUrl)
+                .map(Image::getDetailUrlOrOriginal)
                 .collect(Collectors.toList());
 
-        this.comments = post.getComments().stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+        this.comments = comments.getComments();
+        this.commentsNextCursor = comments.getNextCursor();
     }
 }
@@ -0,0 +1,43 @@
+package com.foodcom.firstpro.domain.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "이미지 직접 업로드 URL 발급 요청 DTO")
+public class UploadUrlRequestDto {
+
+    @NotEmpty(message = "업로드할 이미지를 하나 이상 지정해야 합니다.")
+    @Size(max = 10, message = "이미지는 최대 10개까지 업로드할 수 있습니다.")
+    @Valid
+    @Schema(description = "업로드할 이미지 목록 (게시물에 표시할 순서대로)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<ImageFile> images;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "업로드할 이미지 정보")
+    public static class ImageFile {
+
+        @NotBlank(message = "파일 이름은 필수입니다.")
+        @Size(max = 100, message = "파일 이름은 100자를 초과할 수 없습니다.")
+        @Schema(description = "원본 파일 이름", example = "pasta.jpg", requiredMode = Schema.RequiredMode.REQUIRED)
+        private String filename;
+
+        @NotBlank(message = "Content-Type은 필수입니다.")
+        @Pattern(regexp = "image/[a-zA-Z0-9.+-]+", message = "이미지 파일만 업로드할 수 있습니다.")
+        @Schema(description = "파일의 Content-Type (업로드 시 같은 값을 보내야 함)", example = "image/jpeg", requiredMode = Schema.RequiredMode.REQUIRED)
+        private String contentType;
+    }
+}
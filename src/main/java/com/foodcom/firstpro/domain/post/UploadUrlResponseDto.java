@@ -0,0 +1,39 @@
+package com.foodcom.firstpro.domain.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "이미지 직접 업로드 URL 발급 응답 DTO")
+@Getter
+@Builder
+public class UploadUrlResponseDto {
+
+    @Schema(description = "요청 순서대로 발급된 업로드 정보")
+    private List<Upload> uploads;
+
+    @Schema(description = "업로드 정보. url에 method로 headers를 그대로 붙여 파일 본문을 보낸 뒤, key를 게시물 등록 요청에 넣는다.")
+    @Getter
+    @Builder
+    public static class Upload {
+
+        @Schema(description = "게시물 등록 시 전달할 파일 키", example = "post-images/uploads/testuser/550e8400-e29b-41d4-a716-446655440000-pasta.jpg")
+        private String key;
+
+        @Schema(description = "서명된 업로드 URL")
+        private String url;
+
+        @Schema(description = "HTTP 메서드", example = "PUT")
+        private String method;
+
+        @Schema(description = "업로드 요청에 반드시 포함할 헤더")
+        private Map<String, String> headers;
+
+        @Schema(description = "업로드 URL 만료 시각")
+        private Instant expiresAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.foodcom.firstpro.domain.storage;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 내용(SHA-256) -> 저장된 파일 인덱스.
+ * 같은 이미지를 다시 올리면 새로 저장하지 않고 이 파일을 공유하며, refCount는 이 파일을 가리키는 Image 행 수이다.
+ * refCount가 0이 되면 행을 지우고 파일을 삭제 Outbox로 넘긴다.
+ */
+@Entity
+@Table(name = "blob_content")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class BlobContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String url;
+
+    private String thumbnailUrl;
+
+    private String detailUrl;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public BlobContent(String contentHash, String url, String thumbnailUrl, String detailUrl) {
+        this.contentHash = contentHash;
+        this.url = url;
+        this.thumbnailUrl = thumbnailUrl;
+        this.detailUrl = detailUrl;
+        this.refCount = 1;
+    }
+}
@@ -0,0 +1,59 @@
+package com.foodcom.firstpro.domain.storage;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 삭제해야 할 스토리지 파일 (Outbox).
+ * 게시물/이미지 삭제와 같은 트랜잭션에서 저장되므로, 커밋된 삭제는 파일 삭제가 실패하더라도 유실되지 않고 재시도된다.
+ */
+@Entity
+@Table(name = "blob_deletion_outbox", indexes = {
+        @Index(name = "idx_blob_deletion_next_attempt_at", columnList = "nextAttemptAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class BlobDeletionOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    private String blobUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public BlobDeletionOutbox(String blobUrl) {
+        this.blobUrl = blobUrl;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 실패 시 지수 백오프로 다음 시도 시각을 미룸 (최대 maxBackoff)
+    public void markFailed(Duration baseBackoff, Duration maxBackoff) {
+        this.attempts++;
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        Duration backoff = baseBackoff.multipliedBy(multiplier);
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+    }
+}
@@ -0,0 +1,52 @@
+package com.foodcom.firstpro.domain.storage;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명된 업로드 URL을 발급했지만 아직 게시물에 연결되지 않은 파일.
+ * 게시물 등록(commit) 시 삭제되고, 기한(expiresAt)까지 등록되지 않으면 삭제 Outbox로 넘어간다.
+ */
+@Entity
+@Table(name = "pending_upload", indexes = {
+        @Index(name = "idx_pending_upload_expires_at", columnList = "expiresAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PendingUpload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 500)
+    private String blobKey;
+
+    @Column(nullable = false, length = 20)
+    private String loginId;
+
+    // 이 시각까지 게시물에 연결해야 함 (URL 만료 + 유예 시간)
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public PendingUpload(String blobKey, String loginId, LocalDateTime expiresAt) {
+        this.blobKey = blobKey;
+        this.loginId = loginId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isClaimableBy(String loginId, LocalDateTime now) {
+        return this.loginId.equals(loginId) && expiresAt.isAfter(now);
+    }
+}
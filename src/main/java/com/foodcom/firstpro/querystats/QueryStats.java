@@ -0,0 +1,93 @@
+package com.foodcom.firstpro.querystats;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 하나에서 실행한 SQL 통계 (라우팅 대상별 실행 수, 행 수, JDBC 실행 시간).
+ * 요청 스레드에 묶어 두면 {@link QueryStatsDataSource}가 기록한다.
+ * 헤지 읽기처럼 다른 스레드에서 같은 요청의 쿼리를 실행할 수 있으므로 카운터는 스레드 안전하게 둔다.
+ * <p>
+ * N+1 감지를 위해 같은 SQL(바인딩 파라미터 제외)이 몇 번 실행됐는지도 센다 (SQL 종류는 최대 MAX_SHAPES개까지).
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+    private static final int MAX_SHAPES = 256;
+
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> shapes = new ConcurrentHashMap<>();
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public void bind() {
+        CURRENT.set(this);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String target, String sql, long nanos) {
+        Target stats = targets.computeIfAbsent(target, key -> new Target());
+        stats.statements.increment();
+        stats.nanos.add(nanos);
+
+        if (sql != null && (shapes.size() < MAX_SHAPES || shapes.containsKey(sql))) {
+            shapes.computeIfAbsent(sql, key -> new LongAdder()).increment();
+        }
+    }
+
+    void recordRows(String target, long rows) {
+        targets.computeIfAbsent(target, key -> new Target()).rows.add(rows);
+    }
+
+    public Map<String, Target> byTarget() {
+        return targets;
+    }
+
+    public long statements() {
+        return targets.values().stream().mapToLong(Target::statements).sum();
+    }
+
+    public long rows() {
+        return targets.values().stream().mapToLong(Target::rows).sum();
+    }
+
+    public long jdbcNanos() {
+        return targets.values().stream().mapToLong(Target::nanos).sum();
+    }
+
+    /**
+     * @return 가장 많이 반복된 SQL과 횟수, 아무 SQL도 없으면 null
+     */
+    public Map.Entry<String, Long> mostRepeated() {
+        return shapes.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .max(Comparator.comparingLong(Map.Entry::getValue))
+                .orElse(null);
+    }
+
+    public static final class Target {
+
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        public long statements() {
+            return statements.sum();
+        }
+
+        public long rows() {
+            return rows.sum();
+        }
+
+        public long nanos() {
+            return nanos.sum();
+        }
+    }
+}
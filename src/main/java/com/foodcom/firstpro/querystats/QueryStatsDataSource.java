@@ -0,0 +1,114 @@
+package com.foodcom.firstpro.querystats;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 라우팅 대상(MASTER / 복제본) DataSource 하나를 감싸 SQL 실행 수, 조회/변경 행 수, JDBC 실행 시간을
+ * 현재 요청의 {@link QueryStats}에 기록한다. 요청 밖(스케줄러, 비동기 작업)에서 실행한 SQL은 기록하지 않는다.
+ * <p>
+ * Hibernate StatementInspector는 SQL 문자열만 볼 수 있고 어느 대상으로 라우팅됐는지, 몇 행을 읽었는지는 알 수 없으므로 JDBC 단계에서 센다.
+ */
+public class QueryStatsDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    private final String target;
+
+    public QueryStatsDataSource(DataSource targetDataSource, String target) {
+        super(targetDataSource);
+        this.target = target;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String prepared ? prepared : null;
+                return wrapStatement(method.getReturnType(), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private Object wrapStatement(Class<?> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return "getResultSet".equals(name) ? wrapResultSet(result) : result;
+            }
+
+            QueryStats stats = QueryStats.current();
+            if (stats == null) {
+                return invoke(statement, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object result = invoke(statement, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed : preparedSql;
+            stats.recordStatement(target, sql, System.nanoTime() - start);
+
+            if (result instanceof Integer updated && updated > 0) {
+                stats.recordRows(target, updated);
+            } else if (result instanceof Long updated && updated > 0) {
+                stats.recordRows(target, updated);
+            }
+            return wrapResultSet(result);
+        });
+    }
+
+    private Object wrapResultSet(Object result) {
+        if (!(result instanceof ResultSet resultSet)) {
+            return result;
+        }
+        return proxy(ResultSet.class, resultSet, (method, args) -> {
+            Object value = invoke(resultSet, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(value)) {
+                QueryStats stats = QueryStats.current();
+                if (stats != null) {
+                    stats.recordRows(target, 1);
+                }
+            }
+            return value;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object delegate, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,150 @@
+package com.foodcom.firstpro.querystats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 {@link QueryStats}를 묶고, 요청이 끝나면 API(URI 패턴)와 라우팅 대상별로 기록한다.
+ * <p>
+ * - 지표: db.request.statements / db.request.rows (분포), db.request.jdbc (타이머), 태그 uri, method, target
+ * - 같은 SQL이 n-plus-one-threshold회 이상 실행되면 N+1 의심으로 db.request.n-plus-one을 올리고 API별 1분에 한 번 경고 로그
+ * - header.enabled=true면 응답 헤더에 X-Query-Count / X-Query-Rows / X-Query-Time-Ms (응답 커밋 시점까지의 값)
+ *   (쿼리 수가 노출되므로 운영에서는 끔. 테스트에서 API별 쿼리 수 확인용)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private static final long WARN_INTERVAL_MILLIS = 60_000L;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean headerEnabled;
+    private final int nPlusOneThreshold;
+
+    // API별 마지막 N+1 경고 시각
+    private final Map<String, Long> lastWarnedAt = new ConcurrentHashMap<>();
+
+    public QueryStatsFilter(MeterRegistry meterRegistry,
+                            @Value("${db.query-stats.enabled:true}") boolean enabled,
+                            @Value("${db.query-stats.header.enabled:false}") boolean headerEnabled,
+                            @Value("${db.query-stats.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.headerEnabled = headerEnabled;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStats stats = new QueryStats();
+        stats.bind();
+
+        HttpServletResponse target = headerEnabled ? new HeaderWritingResponse(response, stats) : response;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            QueryStats.unbind();
+            if (headerEnabled && !response.isCommitted()) {
+                writeHeaders(response, stats);
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        if (stats.byTarget().isEmpty()) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        stats.byTarget().forEach((routingKey, target) -> {
+            DistributionSummary.builder("db.request.statements")
+                    .tags("uri", uri, "method", method, "target", routingKey)
+                    .register(meterRegistry)
+                    .record(target.statements());
+            DistributionSummary.builder("db.request.rows")
+                    .tags("uri", uri, "method", method, "target", routingKey)
+                    .register(meterRegistry)
+                    .record(target.rows());
+            Timer.builder("db.request.jdbc")
+                    .tags("uri", uri, "method", method, "target", routingKey)
+                    .register(meterRegistry)
+                    .record(target.nanos(), TimeUnit.NANOSECONDS);
+        });
+
+        Map.Entry<String, Long> repeated = stats.mostRepeated();
+        if (repeated != null && repeated.getValue() >= nPlusOneThreshold) {
+            Counter.builder("db.request.n-plus-one")
+                    .tags("uri", uri, "method", method)
+                    .register(meterRegistry)
+                    .increment();
+            warnNPlusOne(method + " " + uri, repeated);
+        }
+    }
+
+    private void warnNPlusOne(String api, Map.Entry<String, Long> repeated) {
+        long now = System.currentTimeMillis();
+        Long last = lastWarnedAt.get(api);
+        if (last != null && now - last < WARN_INTERVAL_MILLIS) {
+            return;
+        }
+        lastWarnedAt.put(api, now);
+        log.warn(">> N+1 의심: {} 요청에서 같은 쿼리 {}회 실행: {}", api, repeated.getValue(), repeated.getKey());
+    }
+
+    private static void writeHeaders(HttpServletResponse response, QueryStats stats) {
+        response.setHeader(COUNT_HEADER, String.valueOf(stats.statements()));
+        response.setHeader(ROWS_HEADER, String.valueOf(stats.rows()));
+        response.setHeader(TIME_HEADER, String.format("%.3f", stats.jdbcNanos() / 1_000_000.0));
+    }
+
+    // 본문을 쓰기 시작해 응답이 커밋되기 직전에 헤더를 넣음
+    private static final class HeaderWritingResponse extends OnCommittedResponseWrapper {
+
+        private final QueryStats stats;
+
+        private HeaderWritingResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders((HttpServletResponse) getResponse(), stats);
+        }
+    }
+}
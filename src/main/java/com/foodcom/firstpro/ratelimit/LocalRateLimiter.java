@@ -0,0 +1,85 @@
+package com.foodcom.firstpro.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인스턴스 메모리의 토큰 버킷.
+ * 키를 해시로 나눈 구간(Stripe)마다 따로 잠그므로 서로 다른 사용자의 요청끼리는 거의 경합하지 않는다.
+ * 구간마다 최근 사용 순서를 유지하고, 최대 개수를 넘으면 가장 오래 쓰지 않은 버킷을 버린다 (다시 오면 가득 찬 버킷으로 시작).
+ */
+@Component
+public class LocalRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public LocalRateLimiter(RateLimitProperties properties) {
+        int maxPerStripe = Math.max(1, properties.getMaxBuckets() / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxPerStripe);
+        }
+    }
+
+    /**
+     * @return 0이면 허용 (토큰 1개 소비), 아니면 다음 토큰까지 남은 시간 (밀리초)
+     */
+    public long tryAcquire(RateLimitProperties.Rule rule, String key) {
+        return tryAcquire(rule, key, System.nanoTime());
+    }
+
+    long tryAcquire(RateLimitProperties.Rule rule, String key, long nowNanos) {
+        String bucketKey = rule.getName() + ":" + key;
+        Stripe stripe = stripes[(bucketKey.hashCode() & 0x7fffffff) % STRIPES];
+
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(bucketKey);
+            if (bucket == null) {
+                bucket = new Bucket(rule.getCapacity(), nowNanos);
+                stripe.put(bucketKey, bucket);
+            }
+            return bucket.tryConsume(rule, nowNanos);
+        }
+    }
+
+    private static class Stripe extends LinkedHashMap<String, Bucket> {
+
+        private final int maxSize;
+
+        Stripe(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private static class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(long capacity, long nowNanos) {
+            this.tokens = capacity;
+            this.refilledAt = nowNanos;
+        }
+
+        long tryConsume(RateLimitProperties.Rule rule, long nowNanos) {
+            double nanosPerToken = rule.nanosPerToken();
+            tokens = Math.min(rule.getCapacity(), tokens + (nowNanos - refilledAt) / nanosPerToken);
+            refilledAt = nowNanos;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) * nanosPerToken / 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.foodcom.firstpro.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodcom.firstpro.controller.advice.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * 규칙(경로 + 메서드)별 토큰 버킷으로 요청 수를 제한한다. 한도를 넘으면 컨트롤러/DB에 닿기 전에 429를 돌려준다.
+ * <p>
+ * - 버킷 키: 모든 요청은 클라이언트 IP, 인증된 요청은 사용자(loginId) 버킷도 함께 확인해 어느 하나라도 비면 거절한다
+ *   (계정을 바꿔 가며 IP 한도를 우회하거나 IP를 바꿔 가며 사용자 한도를 우회할 수 없음).
+ *   프록시 뒤에서도 실제 IP가 remoteAddr에 들어오도록 application.yml에 server.forward-headers-strategy=framework를 둔다.
+ * - 인스턴스 메모리 버킷({@link LocalRateLimiter})을 먼저 확인하고, 통과한 요청만 전역 버킷({@link RedisRateLimiter}, 선택)을 확인한다.
+ * - JwtAuthenticationFilter 다음에 실행되어야 사용자 단위로 제한할 수 있다.
+ * <p>
+ * 지표: http.rate-limit.throttled{rule, tier=local|global}
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final LocalRateLimiter localRateLimiter;
+    private final RedisRateLimiter redisRateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    private final List<RouteRule> routeRules;
+    private final String throttledBody;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           LocalRateLimiter localRateLimiter,
+                           RedisRateLimiter redisRateLimiter,
+                           MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper) throws JsonProcessingException {
+        this.properties = properties;
+        this.localRateLimiter = localRateLimiter;
+        this.redisRateLimiter = redisRateLimiter;
+        this.meterRegistry = meterRegistry;
+
+        PathPatternParser parser = new PathPatternParser();
+        this.routeRules = properties.getRules().stream()
+                .map(rule -> new RouteRule(rule, parser.parse(rule.getPattern())))
+                .toList();
+
+        // 거절 응답 본문은 매번 직렬화하지 않음
+        this.throttledBody = objectMapper.writeValueAsString(new GlobalExceptionHandler.ErrorResponse(
+                "요청 한도 초과", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        List<String> keys = clientKeys(request);
+
+        long retryAfterMillis = tryAcquireAll(localRateLimiter::tryAcquire, rule, keys);
+        String tier = "local";
+        if (retryAfterMillis == 0 && properties.getGlobal().isEnabled()) {
+            retryAfterMillis = tryAcquireAll(redisRateLimiter::tryAcquire, rule, keys);
+            tier = "global";
+        }
+
+        if (retryAfterMillis > 0) {
+            meterRegistry.counter("http.rate-limit.throttled", "rule", rule.getName(), "tier", tier).increment();
+            reject(response, retryAfterMillis);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Rule match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (RouteRule routeRule : routeRules) {
+            if (routeRule.rule().matchesMethod(request.getMethod()) && routeRule.pattern().matches(path)) {
+                return routeRule.rule();
+            }
+        }
+        return null;
+    }
+
+    private List<String> clientKeys(HttpServletRequest request) {
+        String ipKey = "ip:" + request.getRemoteAddr();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return List.of(ipKey, "user:" + authentication.getName());
+        }
+        return List.of(ipKey);
+    }
+
+    // 앞 버킷에서 거절되면 뒤 버킷의 토큰은 소모하지 않음
+    private long tryAcquireAll(ToLongBiFunction<RateLimitProperties.Rule, String> limiter,
+                               RateLimitProperties.Rule rule, List<String> keys) {
+        for (String key : keys) {
+            long retryAfterMillis = limiter.applyAsLong(rule, key);
+            if (retryAfterMillis > 0) {
+                return retryAfterMillis;
+            }
+        }
+        return 0;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(throttledBody);
+    }
+
+    private record RouteRule(RateLimitProperties.Rule rule, PathPattern pattern) {
+    }
+}
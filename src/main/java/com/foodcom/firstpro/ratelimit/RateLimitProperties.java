@@ -0,0 +1,79 @@
+package com.foodcom.firstpro.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 한도 설정 (rate-limit.*).
+ * 규칙은 위에서부터 처음 일치하는 하나만 적용한다. rate-limit.rules[n]을 설정하면 기본 규칙 전체가 대체된다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 인스턴스 메모리에 유지할 최대 버킷 수 (넘으면 오래 쓰지 않은 버킷부터 제거)
+    private int maxBuckets = 100_000;
+
+    private Global global = new Global();
+
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("join", "POST", "/members", 10, 10, Duration.ofMinutes(1)),
+            new Rule("login", "POST", "/login", 20, 20, Duration.ofMinutes(1)),
+            new Rule("upload-url", "POST", "/posts/uploads", 30, 30, Duration.ofMinutes(1)),
+            new Rule("post-read", "GET", "/posts/**", 200, 50, Duration.ofSeconds(1)),
+            new Rule("post-write", null, "/posts/**", 60, 1, Duration.ofSeconds(1))
+    ));
+
+    @Getter
+    @Setter
+    public static class Global {
+
+        // Redis 버킷으로 여러 인스턴스 합산 한도 적용 (로컬 한도를 통과한 요청만 확인)
+        private boolean enabled = false;
+
+        // Redis 오류 시 이 시간 동안 전역 한도 확인 생략 (로컬 한도만 적용)
+        private Duration failureBackoff = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+
+        private String name;
+
+        // null이면 모든 메서드
+        private String method;
+
+        private String pattern;
+
+        // 버킷 크기 (순간 허용량)
+        private long capacity;
+
+        // refillPeriod마다 채워지는 토큰 수 (지속 허용량)
+        private long refillTokens;
+        private Duration refillPeriod;
+
+        public boolean matchesMethod(String requestMethod) {
+            return method == null || method.equalsIgnoreCase(requestMethod);
+        }
+
+        // 토큰 1개가 채워지는 데 걸리는 시간 (나노초)
+        public double nanosPerToken() {
+            return (double) refillPeriod.toNanos() / refillTokens;
+        }
+    }
+}
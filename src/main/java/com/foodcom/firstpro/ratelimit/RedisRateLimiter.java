@@ -0,0 +1,81 @@
+package com.foodcom.firstpro.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷 (여러 인스턴스 합산 한도).
+ * 토큰 계산과 차감을 Lua 스크립트 한 번으로 처리하고, 시각은 Redis 서버 시간을 사용한다 (인스턴스 간 시계 차이 무시).
+ * Redis 장애 시에는 잠시 동안 확인을 건너뛰고 허용한다 (로컬 한도는 그대로 적용).
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+
+    // ARGV: 버킷 크기, 토큰 1개당 밀리초 / 반환: 0이면 허용, 아니면 다음 토큰까지 남은 밀리초
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local millisPerToken = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local refilledAt = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + (now - refilledAt) / millisPerToken)
+
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.max(1, math.ceil((1 - tokens) * millisPerToken))
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * millisPerToken))
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long failureBackoffMillis;
+
+    // Redis 오류 발생 시 이 시각까지는 Redis를 호출하지 않음
+    private volatile long bypassUntil = 0L;
+
+    private final Counter errorCounter;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.failureBackoffMillis = properties.getGlobal().getFailureBackoff().toMillis();
+        this.errorCounter = meterRegistry.counter("http.rate-limit.global.error");
+    }
+
+    /**
+     * @return 0이면 허용, 아니면 다음 토큰까지 남은 시간 (밀리초)
+     */
+    public long tryAcquire(RateLimitProperties.Rule rule, String key) {
+        if (System.currentTimeMillis() < bypassUntil) {
+            return 0;
+        }
+
+        try {
+            Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + rule.getName() + ":" + key),
+                    String.valueOf(rule.getCapacity()), String.valueOf(rule.nanosPerToken() / 1_000_000));
+            return wait == null ? 0 : wait;
+        } catch (Exception e) {
+            errorCounter.increment();
+            bypassUntil = System.currentTimeMillis() + failureBackoffMillis;
+            log.warn(">> 전역 요청 한도 확인 실패 ({}ms 동안 로컬 한도만 적용): {}", failureBackoffMillis, e.getMessage());
+            return 0;
+        }
+    }
+}
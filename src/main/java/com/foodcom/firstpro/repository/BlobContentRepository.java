@@ -0,0 +1,34 @@
+package com.foodcom.firstpro.repository;
+
+import com.foodcom.firstpro.domain.storage.BlobContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface BlobContentRepository extends JpaRepository<BlobContent, Long> {
+
+    Optional<BlobContent> findByContentHash(String contentHash);
+
+    boolean existsByContentHash(String contentHash);
+
+    // 조회 후 증가가 아니라 단일 UPDATE로 증가 (조회 이후 행이 삭제됐거나 다른 파일로 바뀌었으면 0)
+    @Transactional
+    @Modifying
+    @Query("update BlobContent b set b.refCount = b.refCount + 1 where b.contentHash = :contentHash and b.url = :url")
+    int incrementRefCount(@Param("contentHash") String contentHash, @Param("url") String url);
+
+    @Transactional
+    @Modifying
+    @Query("update BlobContent b set b.refCount = b.refCount - 1 where b.contentHash = :contentHash")
+    int decrementRefCount(@Param("contentHash") String contentHash);
+
+    // 마지막 참조가 사라진 경우에만 삭제 (그 사이 다시 참조되면 0건)
+    @Transactional
+    @Modifying
+    @Query("delete from BlobContent b where b.contentHash = :contentHash and b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("contentHash") String contentHash);
+}
@@ -0,0 +1,13 @@
+package com.foodcom.firstpro.repository;
+
+import com.foodcom.firstpro.domain.storage.BlobDeletionOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BlobDeletionOutboxRepository extends JpaRepository<BlobDeletionOutbox, Long> {
+
+    // GCS 배치 요청 1회 최대 100건에 맞춰 조회
+    List<BlobDeletionOutbox> findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now);
+}
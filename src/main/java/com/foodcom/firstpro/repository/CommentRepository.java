@@ -1,8 +1,49 @@
 package com.foodcom.firstpro.repository;
 
 import com.foodcom.firstpro.domain.comment.Comment;
+import com.foodcom.firstpro.domain.comment.CommentResponseDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    // 댓글 첫 페이지: 댓글 + 작성자 ID를 DTO Projection으로 조회, (post_id, createdAt, id) 인덱스 순서 그대로 읽음
+    @Query("""
+                SELECT new com.foodcom.firstpro.domain.comment.CommentResponseDto(
+                    c.id,
+                    c.content,
+                    m.loginId,
+                    c.createdAt
+                )
+                FROM Comment c
+                JOIN c.member m
+                WHERE c.post.id = :postId
+                ORDER BY c.createdAt ASC, c.id ASC
+            """)
+    Slice<CommentResponseDto> findCommentSlice(@Param("postId") Long postId, Pageable pageable);
+
+    // 댓글 다음 페이지: OFFSET 없이 (createdAt, id) 이후 구간만 인덱스 범위 스캔
+    @Query("""
+                SELECT new com.foodcom.firstpro.domain.comment.CommentResponseDto(
+                    c.id,
+                    c.content,
+                    m.loginId,
+                    c.createdAt
+                )
+                FROM Comment c
+                JOIN c.member m
+                WHERE c.post.id = :postId
+                  AND c.createdAt >= :createdAt
+                  AND (c.createdAt > :createdAt OR c.id > :id)
+                ORDER BY c.createdAt ASC, c.id ASC
+            """)
+    Slice<CommentResponseDto> findCommentSliceAfter(@Param("postId") Long postId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
 }
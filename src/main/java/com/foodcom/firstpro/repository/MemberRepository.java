@@ -10,4 +10,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByLoginId(String loginId);
 
+    boolean existsByLoginId(String loginId);
+
+    // 토큰에 회원 PK(mid)가 있으면 SELECT 없이 FK 참조만 만든다 (없으면 loginId로 조회)
+    default Optional<Member> findReference(Long memberId, String loginId) {
+        return memberId != null ? Optional.of(getReferenceById(memberId)) : findByLoginId(loginId);
+    }
+
+    // 회원 정보가 필요한 경우: loginId 인덱스 대신 PK로 조회
+    default Optional<Member> findByIdOrLoginId(Long memberId, String loginId) {
+        return memberId != null ? findById(memberId) : findByLoginId(loginId);
+    }
 }
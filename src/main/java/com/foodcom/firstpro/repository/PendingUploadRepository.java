@@ -0,0 +1,23 @@
+package com.foodcom.firstpro.repository;
+
+import com.foodcom.firstpro.domain.storage.PendingUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PendingUploadRepository extends JpaRepository<PendingUpload, Long> {
+
+    List<PendingUpload> findAllByBlobKeyIn(Collection<String> blobKeys);
+
+    List<PendingUpload> findTop100ByExpiresAtLessThanOrderByIdAsc(LocalDateTime now);
+
+    // 삭제된 행 수로 동시에 같은 업로드를 등록하려는 요청을 걸러냄
+    @Modifying
+    @Query("delete from PendingUpload p where p.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
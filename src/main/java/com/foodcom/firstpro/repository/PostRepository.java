@@ -6,14 +6,27 @@ import com.foodcom.firstpro.domain.post.PostListResponseDto;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     Page<Post> findByMember(Member member, Pageable pageable);
 
+    // 상세 조회용: 작성자와 이미지를 한 번의 조인 쿼리로 함께 로딩 (댓글은 CommentRepository에서 DTO로 별도 조회)
+    @EntityGraph(attributePaths = {"member", "images"})
+    @Query("SELECT p FROM Post p WHERE p.id = :postId")
+    Optional<Post> findDetailById(@Param("postId") Long postId);
+
+    // 수정/삭제 전 권한 확인용: 엔티티를 로딩하지 않고 작성자 loginId만 조회
+    @Query("SELECT m.loginId FROM Post p JOIN p.member m WHERE p.id = :postId")
+    Optional<String> findWriterLoginIdById(@Param("postId") Long postId);
+
     @Query(value = """
                 SELECT new com.foodcom.firstpro.domain.post.PostListResponseDto(
                     p.id,
@@ -30,7 +43,56 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             """, countQuery = "SELECT COUNT(p) FROM Post p")
     Page<PostListResponseDto> findPostList(Pageable pageable);
 
-    @Modifying
-    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :postId")
-    void increaseCommentCount(@Param("postId") Long postId);
+    // 커서 모드 첫 페이지: COUNT 쿼리 없이 size + 1건만 조회해서 다음 페이지 존재 여부 판단
+    @Query("""
+                SELECT new com.foodcom.firstpro.domain.post.PostListResponseDto(
+                    p.id,
+                    p.title,
+                    m.username,
+                    p.thumbnailUrl,
+                    p.createdAt,
+                    p.modifiedAt,
+                    p.commentCount
+                )
+                FROM Post p
+                JOIN p.member m
+                ORDER BY p.modifiedAt DESC, p.id DESC
+            """)
+    Slice<PostListResponseDto> findPostSlice(Pageable pageable);
+
+    // 커서 모드 다음 페이지: OFFSET 없이 (modifiedAt, id) 이후 구간만 인덱스 범위 스캔
+    @Query("""
+                SELECT new com.foodcom.firstpro.domain.post.PostListResponseDto(
+                    p.id,
+                    p.title,
+                    m.username,
+                    p.thumbnailUrl,
+                    p.createdAt,
+                    p.modifiedAt,
+                    p.commentCount
+                )
+                FROM Post p
+                JOIN p.member m
+                WHERE p.modifiedAt <= :modifiedAt
+                  AND (p.modifiedAt < :modifiedAt OR p.id < :id)
+                ORDER BY p.modifiedAt DESC, p.id DESC
+            """)
+    Slice<PostListResponseDto> findPostSliceAfter(@Param("modifiedAt") LocalDateTime modifiedAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.member = :member ORDER BY p.modifiedAt DESC, p.id DESC")
+    Slice<Post> findSliceByMember(@Param("member") Member member, Pageable pageable);
+
+    @Query("""
+                SELECT p FROM Post p
+                WHERE p.member = :member
+                  AND p.modifiedAt <= :modifiedAt
+                  AND (p.modifiedAt < :modifiedAt OR p.id < :id)
+                ORDER BY p.modifiedAt DESC, p.id DESC
+            """)
+    Slice<Post> findSliceByMemberAfter(@Param("member") Member member,
+                                       @Param("modifiedAt") LocalDateTime modifiedAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
 }
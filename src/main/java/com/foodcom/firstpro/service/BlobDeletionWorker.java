@@ -0,0 +1,128 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.storage.BlobDeletionOutbox;
+import com.foodcom.firstpro.repository.BlobDeletionOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * blob_deletion_outbox에 쌓인 파일을 주기적으로 꺼내 GCS 배치 삭제 요청으로 지운다.
+ * <p>
+ * - GCS 호출 중에는 트랜잭션(커넥션)을 잡지 않는다: 조회 -> 삭제 -> 결과 반영을 각각 분리.
+ * - 실패한 항목은 지수 백오프 후 다시 시도한다.
+ * - 여러 인스턴스가 같은 항목을 동시에 처리해도 이미 없는 파일은 삭제된 것으로 보므로 안전하다.
+ */
+@Slf4j
+@Component
+public class BlobDeletionWorker {
+
+    private final BlobDeletionOutboxRepository outboxRepository;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final int maxBatchesPerRun;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    public BlobDeletionWorker(BlobDeletionOutboxRepository outboxRepository,
+                              StorageService storageService,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${storage.deletion.base-backoff:10s}") Duration baseBackoff,
+                              @Value("${storage.deletion.max-backoff:1h}") Duration maxBackoff,
+                              @Value("${storage.deletion.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.outboxRepository = outboxRepository;
+        this.storageService = storageService;
+        this.transactionTemplate = transactionTemplate;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.deletedCounter = meterRegistry.counter("blob.deletion.outbox.processed", "result", "deleted");
+        this.failedCounter = meterRegistry.counter("blob.deletion.outbox.processed", "result", "failed");
+        // 스크레이프마다 COUNT 쿼리를 실행하지 않도록 처리 주기마다 갱신한 값을 노출
+        meterRegistry.gauge("blob.deletion.outbox.depth", queueDepth);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.interval-ms:5000}")
+    public void scheduledDrain() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.warn(">> 파일 삭제 Outbox 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 가능한 항목이 없거나 maxBatchesPerRun에 도달할 때까지 배치 단위로 삭제한다.
+     *
+     * @return 삭제 완료한 항목 수
+     */
+    public int drain() {
+        int deleted = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<BlobDeletionOutbox> batch = outboxRepository
+                    .findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime.now());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            deleted += processBatch(batch);
+            if (batch.size() < 100) {
+                break;
+            }
+        }
+
+        queueDepth.set(outboxRepository.count());
+        return deleted;
+    }
+
+    private int processBatch(List<BlobDeletionOutbox> batch) {
+        List<String> urls = batch.stream()
+                .map(BlobDeletionOutbox::getBlobUrl)
+                .toList();
+
+        Set<String> failedUrls = new HashSet<>(storageService.deleteFiles(urls));
+
+        List<Long> doneIds = new ArrayList<>();
+        List<BlobDeletionOutbox> failedEntries = new ArrayList<>();
+        for (BlobDeletionOutbox entry : batch) {
+            if (failedUrls.contains(entry.getBlobUrl())) {
+                entry.markFailed(baseBackoff, maxBackoff);
+                failedEntries.add(entry);
+            } else {
+                doneIds.add(entry.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.deleteAllByIdInBatch(doneIds);
+            outboxRepository.saveAll(failedEntries);
+        });
+
+        deletedCounter.increment(doneIds.size());
+        failedCounter.increment(failedEntries.size());
+
+        if (!failedEntries.isEmpty()) {
+            log.warn(">> 파일 삭제 실패 {}건, 백오프 후 재시도", failedEntries.size());
+        }
+        return doneIds.size();
+    }
+}
@@ -2,40 +2,121 @@ package com.foodcom.firstpro.service;
 
 import com.foodcom.firstpro.auth.exception.LoginFailureException;
 import com.foodcom.firstpro.auth.exception.ResourceNotFoundException;
+import com.foodcom.firstpro.counter.CommentCountBuffer;
 import com.foodcom.firstpro.domain.comment.Comment;
 import com.foodcom.firstpro.domain.comment.CommentCreateDto;
+import com.foodcom.firstpro.domain.comment.CommentResponseDto;
+import com.foodcom.firstpro.domain.comment.CommentSliceResponse;
+import com.foodcom.firstpro.domain.common.KeysetCursor;
 import com.foodcom.firstpro.domain.member.Member;
 import com.foodcom.firstpro.domain.post.Post;
 import com.foodcom.firstpro.repository.CommentRepository;
 import com.foodcom.firstpro.repository.MemberRepository;
 import com.foodcom.firstpro.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CommentService {
 
+        public static final int DEFAULT_PAGE_SIZE = 20;
+        public static final int MAX_PAGE_SIZE = 100;
+
         private final PostRepository postRepository;
         private final MemberRepository memberRepository;
         private final CommentRepository commentRepository;
+        private final CommentCountBuffer commentCountBuffer;
+        private final TransactionTemplate transactionTemplate;
 
-        public void createComment(Long postId, CommentCreateDto commentCreateDto, String loginId) {
-                Post post = postRepository.findById(postId)
-                                .orElseThrow(() -> new ResourceNotFoundException("게시물을 찾을 수 없습니다."));
+        /**
+         * 회원은 findReference로 조회 없이 참조만 만들므로, 토큰 발급 뒤 회원이 없어졌으면 INSERT의 FK 위반으로 드러난다.
+         * 저장은 직접 연 트랜잭션에서 하고, 롤백된 뒤에 원인(회원/게시물 없음)을 확인해 조회할 때와 같은 응답으로 바꾼다.
+         * (호출한 쪽에 이미 트랜잭션이 있으면 그 안에서 저장)
+         */
+        @Transactional(propagation = Propagation.SUPPORTS)
+        public void createComment(Long postId, CommentCreateDto commentCreateDto, Long memberId, String loginId) {
+                try {
+                        transactionTemplate.executeWithoutResult(status -> {
+                                Post post = postRepository.findById(postId)
+                                                .orElseThrow(() -> new ResourceNotFoundException("게시물을 찾을 수 없습니다."));
 
-                Member member = memberRepository.findByLoginId(loginId)
-                                .orElseThrow(() -> new LoginFailureException("회원 정보를 찾을 수 없습니다."));
+                                Member member = memberRepository.findReference(memberId, loginId)
+                                                .orElseThrow(() -> new LoginFailureException("회원 정보를 찾을 수 없습니다."));
 
-                Comment comment = Comment.builder()
-                                .content(commentCreateDto.getContent())
-                                .post(post)
-                                .member(member)
-                                .build();
+                                Comment comment = Comment.builder()
+                                                .content(commentCreateDto.getContent())
+                                                .post(post)
+                                                .member(member)
+                                                .build();
+
+                                commentRepository.save(comment);
+                                // post 행을 바로 UPDATE하지 않고 버퍼에 모아 주기적으로 반영 (인기 게시물 행 잠금 경합 방지)
+                                // 롤백된 댓글이 세지지 않도록 커밋 후에 버퍼에 더함
+                                commentCountBuffer.incrementAfterCommit(post.getId());
+                        });
+                } catch (DataIntegrityViolationException e) {
+                        if (memberId != null && !memberRepository.existsById(memberId)) {
+                                throw new LoginFailureException("회원 정보를 찾을 수 없습니다.");
+                        }
+                        if (!postRepository.existsById(postId)) {
+                                throw new ResourceNotFoundException("게시물을 찾을 수 없습니다.");
+                        }
+                        throw e;
+                }
+        }
+
+        /**
+         * 게시물의 댓글을 작성순으로 커서 조회한다.
+         *
+         * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+         * @param size   페이지 크기 (최대 MAX_PAGE_SIZE)
+         */
+        @Transactional(readOnly = true)
+        public CommentSliceResponse getComments(Long postId, KeysetCursor cursor, int size) {
+                if (size < 1) {
+                        throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+                }
+
+                CommentSliceResponse response = getCommentSlice(postId, cursor, Math.min(size, MAX_PAGE_SIZE));
 
-                commentRepository.save(comment);
-                postRepository.increaseCommentCount(post.getId());
+                // 결과가 비었을 때만 게시물 존재 여부 확인 (댓글이 있으면 게시물도 있으므로 추가 쿼리 생략)
+                if (response.getComments().isEmpty() && !postRepository.existsById(postId)) {
+                        throw new ResourceNotFoundException("게시물을 찾을 수 없습니다. ID = " + postId);
+                }
+                return response;
+        }
+
+        // 게시물 존재 여부는 호출하는 쪽에서 확인된 경우 사용 (게시물 상세 조회의 첫 페이지)
+        @Transactional(readOnly = true)
+        public CommentSliceResponse getCommentSlice(Long postId, KeysetCursor cursor, int size) {
+                PageRequest pageable = PageRequest.of(0, size);
+
+                Slice<CommentResponseDto> commentSlice = (cursor == null)
+                                ? commentRepository.findCommentSlice(postId, pageable)
+                                : commentRepository.findCommentSliceAfter(postId, cursor.getTimestamp(), cursor.getId(), pageable);
+
+                List<CommentResponseDto> comments = commentSlice.getContent();
+
+                String nextCursor = null;
+                if (commentSlice.hasNext()) {
+                        CommentResponseDto lastComment = comments.get(comments.size() - 1);
+                        nextCursor = KeysetCursor.of(lastComment.getCreatedAt(), lastComment.getId()).encode();
+                }
+
+                return CommentSliceResponse.builder()
+                                .comments(comments)
+                                .nextCursor(nextCursor)
+                                .hasNext(commentSlice.hasNext())
+                                .build();
         }
 }
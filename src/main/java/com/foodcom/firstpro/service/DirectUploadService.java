@@ -0,0 +1,192 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.post.Image;
+import com.foodcom.firstpro.domain.post.UploadUrlRequestDto;
+import com.foodcom.firstpro.domain.post.UploadUrlResponseDto;
+import com.foodcom.firstpro.domain.storage.BlobDeletionOutbox;
+import com.foodcom.firstpro.domain.storage.PendingUpload;
+import com.foodcom.firstpro.repository.BlobDeletionOutboxRepository;
+import com.foodcom.firstpro.repository.PendingUploadRepository;
+import com.foodcom.firstpro.storage.BlobStore;
+import com.foodcom.firstpro.storage.ImageContentTypes;
+import com.foodcom.firstpro.storage.SignedUpload;
+import com.foodcom.firstpro.storage.UploadUrlSigner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이미지 직접 업로드: 서명된 업로드 URL 발급 -> 클라이언트가 저장소로 직접 업로드 -> 게시물 등록 시 파일 키를 연결.
+ * API 서버는 이미지 바이트를 받지 않고 메타데이터만 처리한다.
+ * <p>
+ * - 발급한 키는 pending_upload에 기록하고, 게시물 등록 시 본인이 발급받은 키인지 확인한 뒤 지운다.
+ * - 기한 안에 등록되지 않은 업로드는 삭제 Outbox로 넘겨 BlobDeletionWorker가 지운다.
+ * - 리사이즈본(썸네일/상세)은 만들지 않는다 (원본을 다시 내려받으면 API 서버를 거치지 않는 의미가 없음).
+ */
+@Slf4j
+@Service
+public class DirectUploadService {
+
+    private static final String KEY_PREFIX = "post-images/uploads/";
+    private static final int UUID_LENGTH = 36;
+
+    private final UploadUrlSigner uploadUrlSigner;
+    private final BlobStore blobStore;
+    private final PendingUploadRepository pendingUploadRepository;
+    private final BlobDeletionOutboxRepository blobDeletionOutboxRepository;
+
+    private final Duration urlTtl;
+    private final Duration commitGrace;
+    private final long maxFileSize;
+
+    public DirectUploadService(UploadUrlSigner uploadUrlSigner,
+                               BlobStore blobStore,
+                               PendingUploadRepository pendingUploadRepository,
+                               BlobDeletionOutboxRepository blobDeletionOutboxRepository,
+                               @Value("${storage.direct-upload.url-ttl:10m}") Duration urlTtl,
+                               @Value("${storage.direct-upload.commit-grace:1h}") Duration commitGrace,
+                               @Value("${storage.direct-upload.max-file-size:10485760}") long maxFileSize) {
+        this.uploadUrlSigner = uploadUrlSigner;
+        this.blobStore = blobStore;
+        this.pendingUploadRepository = pendingUploadRepository;
+        this.blobDeletionOutboxRepository = blobDeletionOutboxRepository;
+        this.urlTtl = urlTtl;
+        this.commitGrace = commitGrace;
+        this.maxFileSize = maxFileSize;
+    }
+
+    @Transactional
+    public UploadUrlResponseDto issue(List<UploadUrlRequestDto.ImageFile> images, String loginId) {
+        LocalDateTime commitDeadline = LocalDateTime.now().plus(urlTtl).plus(commitGrace);
+
+        List<UploadUrlResponseDto.Upload> uploads = new ArrayList<>(images.size());
+        List<PendingUpload> pendingUploads = new ArrayList<>(images.size());
+
+        for (UploadUrlRequestDto.ImageFile image : images) {
+            String key = prefixOf(loginId) + UUID.randomUUID() + "-"
+                    + sanitize(ImageContentTypes.fileNameOf(image.getFilename(), image.getContentType()));
+            SignedUpload signed = uploadUrlSigner.sign(key, image.getContentType(), maxFileSize, urlTtl);
+
+            pendingUploads.add(new PendingUpload(key, loginId, commitDeadline));
+            uploads.add(UploadUrlResponseDto.Upload.builder()
+                    .key(key)
+                    .url(signed.getUrl())
+                    .method(signed.getMethod())
+                    .headers(signed.getHeaders())
+                    .expiresAt(signed.getExpiresAt())
+                    .build());
+        }
+
+        pendingUploadRepository.saveAll(pendingUploads);
+        return UploadUrlResponseDto.builder()
+                .uploads(uploads)
+                .build();
+    }
+
+    /**
+     * 클라이언트가 실제로 업로드를 마쳤는지 저장소에서 확인한다. (트랜잭션 밖에서 호출)
+     *
+     * @return 입력 순서대로 정렬된, 아직 게시물에 연결되지 않은 이미지 목록
+     */
+    public List<Image> toUploadedImages(List<String> keys, String loginId) {
+        if (keys == null || keys.isEmpty()) {
+            return List.of();
+        }
+        if (new HashSet<>(keys).size() != keys.size()) {
+            throw new IllegalArgumentException("같은 이미지를 중복해서 첨부할 수 없습니다.");
+        }
+
+        String prefix = prefixOf(loginId);
+        List<Image> images = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (key == null || !key.startsWith(prefix) || key.length() <= prefix.length() + UUID_LENGTH + 1) {
+                throw new IllegalArgumentException("발급받지 않은 이미지 키입니다: " + key);
+            }
+            if (!blobStore.exists(key)) {
+                throw new IllegalArgumentException("업로드가 완료되지 않은 이미지입니다: " + key);
+            }
+
+            images.add(Image.builder()
+                    .url(blobStore.publicUrl(key))
+                    .filename(key.substring(prefix.length() + UUID_LENGTH + 1))
+                    .build());
+        }
+        return images;
+    }
+
+    /**
+     * 게시물 저장 트랜잭션 안에서 업로드 기록을 지운다. 이미 등록됐거나 기한이 지난 키가 있으면 예외 (트랜잭션 롤백).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void claim(List<String> keys, String loginId) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingUpload> pendingUploads = pendingUploadRepository.findAllByBlobKeyIn(keys);
+
+        boolean claimable = pendingUploads.size() == keys.size()
+                && pendingUploads.stream().allMatch(upload -> upload.isClaimableBy(loginId, now));
+        if (!claimable) {
+            throw new IllegalArgumentException("만료되었거나 이미 사용된 이미지 키입니다.");
+        }
+
+        // 동시에 같은 키로 등록하면 나중 요청은 삭제된 행 수가 모자라서 실패
+        int deleted = pendingUploadRepository.deleteByIdIn(pendingUploads.stream()
+                .map(PendingUpload::getId)
+                .toList());
+        if (deleted != keys.size()) {
+            throw new IllegalArgumentException("만료되었거나 이미 사용된 이미지 키입니다.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${storage.direct-upload.sweep-interval-ms:60000}")
+    public void scheduledSweep() {
+        try {
+            sweepExpired();
+        } catch (Exception e) {
+            log.warn(">> 만료된 직접 업로드 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기한 안에 게시물에 연결되지 않은 업로드를 삭제 Outbox로 넘긴다.
+     *
+     * @return 넘긴 항목 수
+     */
+    @Transactional
+    public int sweepExpired() {
+        List<PendingUpload> expired = pendingUploadRepository.findTop100ByExpiresAtLessThanOrderByIdAsc(LocalDateTime.now());
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        blobDeletionOutboxRepository.saveAll(expired.stream()
+                .map(upload -> new BlobDeletionOutbox(blobStore.publicUrl(upload.getBlobKey())))
+                .toList());
+        pendingUploadRepository.deleteAllInBatch(expired);
+
+        log.info(">> 등록되지 않은 직접 업로드 {}건 삭제 예약", expired.size());
+        return expired.size();
+    }
+
+    private String prefixOf(String loginId) {
+        return KEY_PREFIX + sanitize(loginId) + "/";
+    }
+
+    // 키의 경로 구분자로 해석될 수 있는 문자 제거
+    private String sanitize(String name) {
+        return name.replaceAll("[/\\\\\\p{Cntrl}]", "_");
+    }
+}
@@ -0,0 +1,145 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.post.Image;
+import com.foodcom.firstpro.domain.storage.BlobContent;
+import com.foodcom.firstpro.repository.BlobContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지 내용(SHA-256) 기반 중복 제거.
+ * <p>
+ * - 같은 내용의 이미지는 저장소에 한 번만 올리고 여러 Image 행이 같은 파일(원본 + 리사이즈본)을 가리킨다.
+ * - 참조 수는 단일 UPDATE로 증감하며, 마지막 Image 행이 없어질 때만 파일을 지운다.
+ * - 참조를 잡는 것은 게시물 저장과 같은 트랜잭션에서 하므로, 저장에 실패하면 참조 수도 함께 롤백된다.
+ */
+@Component
+public class ImageContentIndex {
+
+    private static final int HASH_BUFFER_SIZE = 8 * 1024;
+
+    private final BlobContentRepository blobContentRepository;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ImageContentIndex(BlobContentRepository blobContentRepository, MeterRegistry meterRegistry) {
+        this.blobContentRepository = blobContentRepository;
+        this.hitCounter = meterRegistry.counter("image.dedup", "result", "hit");
+        this.missCounter = meterRegistry.counter("image.dedup", "result", "miss");
+    }
+
+    // 고정 크기 버퍼로 스트림을 읽으며 계산 (파일 전체를 힙에 올리지 않음)
+    public String hash(MultipartFile file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+
+        try (InputStream inputStream = file.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 같은 내용의 파일이 이미 있으면 그 파일을 가리키는 Image를 만든다.
+     * 참조 수는 올리지 않는다: 게시물 저장 트랜잭션에서 {@link #acquire(List)}로 올려야 저장 실패 시 함께 롤백된다.
+     *
+     * @return 아직 게시물에 연결되지 않은 Image, 없으면 empty (새로 업로드해야 함)
+     */
+    public Optional<Image> find(String contentHash, String filename) {
+        Optional<Image> image = blobContentRepository.findByContentHash(contentHash)
+                .map(content -> Image.builder()
+                        .url(content.getUrl())
+                        .filename(filename)
+                        .thumbnailUrl(content.getThumbnailUrl())
+                        .detailUrl(content.getDetailUrl())
+                        .contentHash(contentHash)
+                        .build());
+
+        if (image.isPresent()) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return image;
+    }
+
+    /**
+     * 게시물에 연결할 Image의 참조를 잡는다. 게시물 저장과 같은 트랜잭션에서만 호출할 수 있다.
+     * <p>
+     * - 재사용한 파일: 참조 수를 올린다. 조회 이후 마지막 참조가 반납돼 행이 지워졌으면 파일도 삭제 대상이므로 저장을 실패시킨다.
+     * - 새로 올린 파일: 참조 수 1로 등록한다. 같은 내용이 먼저 등록됐으면 이 파일은 인덱스 없이 단독으로 사용한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acquire(List<Image> images) {
+        for (Image image : images) {
+            String contentHash = image.getContentHash();
+            if (contentHash == null) {
+                continue;
+            }
+
+            if (!image.isNewlyUploaded()) {
+                if (blobContentRepository.incrementRefCount(contentHash, image.getUrl()) == 0) {
+                    throw new IllegalStateException("재사용하려던 이미지가 삭제되었습니다. 다시 시도해 주세요.");
+                }
+                continue;
+            }
+
+            // 동시에 같은 내용을 등록한 트랜잭션과 겹치면 유니크 제약 위반으로 저장이 실패하고, 업로드한 파일은 호출한 쪽에서 삭제한다
+            if (blobContentRepository.existsByContentHash(contentHash)) {
+                image.detachContent();
+            } else {
+                blobContentRepository.save(new BlobContent(contentHash, image.getUrl(),
+                        image.getThumbnailUrl(), image.getDetailUrl()));
+            }
+        }
+    }
+
+    /**
+     * Image 행이 없어질 때(게시물/이미지 삭제, 저장 실패 보상) 참조를 반납한다. 호출한 쪽의 트랜잭션에 참여한다.
+     *
+     * @return 더 이상 참조되지 않아 실제로 지워야 하는 파일 URL
+     */
+    @Transactional
+    public List<String> release(List<Image> images) {
+        List<String> unreferencedUrls = new ArrayList<>();
+
+        for (Image image : images) {
+            String contentHash = image.getContentHash();
+            if (contentHash == null) {
+                unreferencedUrls.addAll(image.getAllUrls());
+                continue;
+            }
+
+            blobContentRepository.decrementRefCount(contentHash);
+            if (blobContentRepository.deleteIfUnreferenced(contentHash) > 0) {
+                unreferencedUrls.addAll(image.getAllUrls());
+            }
+        }
+        return unreferencedUrls;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
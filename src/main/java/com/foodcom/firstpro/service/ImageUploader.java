@@ -0,0 +1,156 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.post.Image;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 여러 이미지를 가상 스레드에서 동시에 업로드한다.
+ * <p>
+ * - 요청마다 동시 업로드 수를 제한한다 (이미지 10장짜리 게시물 하나가 GCS 연결을 독점하지 않도록).
+ * - 결과는 입력 순서를 유지하므로 첫 번째 이미지가 그대로 썸네일이 된다.
+ * - 이미지마다 원본 업로드 후 리사이즈본(썸네일/상세)을 만든다. 이미 같은 내용이 저장돼 있으면 업로드하지 않고 재사용한다.
+ * - 하나라도 실패하면 이미 올라간 파일을 삭제한 뒤 첫 번째 예외를 다시 던진다.
+ */
+@Slf4j
+@Component
+public class ImageUploader {
+
+    private final StorageService storageService;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageContentIndex imageContentIndex;
+    private final int maxConcurrency;
+
+    public ImageUploader(StorageService storageService,
+                         ImageVariantGenerator imageVariantGenerator,
+                         ImageContentIndex imageContentIndex,
+                         @Value("${storage.upload.max-concurrency-per-request:4}") int maxConcurrency) {
+        this.storageService = storageService;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.imageContentIndex = imageContentIndex;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @param files      업로드할 이미지 (null 이거나 빈 파일은 건너뜀)
+     * @param pathPrefix 버킷 내 저장 경로 (예: "post-images/1")
+     * @return 입력 순서대로 정렬된, 아직 게시물에 연결되지 않은 이미지 목록
+     */
+    public List<Image> uploadAll(List<MultipartFile> files, String pathPrefix) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<MultipartFile> targets = files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+
+        if (targets.size() == 1) {
+            return List.of(upload(targets.get(0), pathPrefix));
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<Image>> futures = new ArrayList<>(targets.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : targets) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return upload(file, pathPrefix);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } // close()에서 모든 업로드가 끝날 때까지 대기
+
+        List<Image> images = new ArrayList<>(targets.size());
+        Throwable failure = null;
+
+        for (Future<Image> future : futures) {
+            try {
+                images.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            log.warn(">> 이미지 업로드 실패, 업로드된 {}개 이미지 삭제: {}", images.size(), failure.getMessage());
+            deleteNewlyUploaded(images);
+            rethrow(failure);
+        }
+
+        return images;
+    }
+
+    // 같은 내용이 이미 있으면 재사용, 없으면 원본 업로드 후 같은 경로에 리사이즈본 생성 (리사이즈 실패 시 원본만 사용)
+    // 인덱스 참조는 게시물 저장 트랜잭션에서 잡는다 (ImageContentIndex.acquire)
+    private Image upload(MultipartFile file, String pathPrefix) throws IOException {
+        String contentHash = imageContentIndex.hash(file);
+
+        Optional<Image> reused = imageContentIndex.find(contentHash, file.getOriginalFilename());
+        if (reused.isPresent()) {
+            return reused.get();
+        }
+
+        String url = storageService.uploadFile(file, pathPrefix);
+        ImageVariantGenerator.Variants variants = imageVariantGenerator.generate(file, pathPrefix);
+
+        Image image = Image.builder()
+                .url(url)
+                .filename(file.getOriginalFilename())
+                .thumbnailUrl(variants.getThumbnailUrl())
+                .detailUrl(variants.getDetailUrl())
+                .contentHash(contentHash)
+                .build();
+        image.markNewlyUploaded();
+        return image;
+    }
+
+    // 아직 참조를 잡지 않았으므로 이번에 새로 올린 파일만 삭제 (재사용한 파일은 다른 게시물이 쓰고 있음)
+    private void deleteNewlyUploaded(List<Image> images) {
+        try {
+            images.stream()
+                    .filter(Image::isNewlyUploaded)
+                    .flatMap(image -> image.getAllUrls().stream())
+                    .forEach(storageService::deleteFile);
+        } catch (RuntimeException e) {
+            log.warn(">> 업로드한 이미지 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    // IOException / 런타임 예외는 그대로, 그 외(Error 제외)는 IOException으로 감싸서 던진다
+    private void rethrow(Throwable failure) throws IOException {
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new IOException("이미지 업로드 중 오류가 발생했습니다.", failure);
+    }
+}
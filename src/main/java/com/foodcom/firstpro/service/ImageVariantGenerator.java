@@ -0,0 +1,251 @@
+package com.foodcom.firstpro.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 업로드된 원본 이미지로 피드 썸네일 / 상세 화면용 리사이즈 이미지를 만들어 원본과 같은 경로에 저장한다.
+ * <p>
+ * - 이미지 디코딩은 메모리를 많이 쓰므로 고정 크기 스레드 풀 + 제한된 대기열에서만 실행한다.
+ *   대기열이 가득 차면 리사이즈를 건너뛰고 원본을 그대로 사용한다.
+ * - 원본이 큰 경우 목표 크기에 맞춰 (가로/세로 중 긴 쪽 기준으로) 서브샘플링하며 읽어서 디코딩 메모리를 줄인다.
+ *   헤더의 가로 x 세로가 max-pixels를 넘으면(압축 폭탄 등) 디코딩하지 않는다.
+ * - 요청 스레드는 timeout까지만 기다리고, 넘으면 원본을 그대로 사용한다 (늦게 끝난 리사이즈본은 삭제).
+ * - 지원하지 않는 형식이거나 처리에 실패해도 업로드 자체는 실패시키지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final String VARIANT_FORMAT = "jpg";
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final StorageService storageService;
+    private final int thumbnailWidth;
+    private final int detailWidth;
+    private final long maxPixels;
+    private final long timeoutNanos;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer resizeTimer;
+    private final Counter skippedCounter;
+
+    public ImageVariantGenerator(StorageService storageService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${media.variant.thumbnail-width:320}") int thumbnailWidth,
+                                 @Value("${media.variant.detail-width:1080}") int detailWidth,
+                                 @Value("${media.variant.threads:2}") int threads,
+                                 @Value("${media.variant.queue-capacity:32}") int queueCapacity,
+                                 @Value("${media.variant.max-pixels:40000000}") long maxPixels,
+                                 @Value("${media.variant.timeout:10s}") Duration timeout) {
+        this.storageService = storageService;
+        this.thumbnailWidth = thumbnailWidth;
+        this.detailWidth = detailWidth;
+        this.maxPixels = maxPixels;
+        this.timeoutNanos = timeout.toNanos();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.resizeTimer = meterRegistry.timer("media.variant.duration");
+        this.skippedCounter = meterRegistry.counter("media.variant.skipped");
+        meterRegistry.gauge("media.variant.queue", executor.getQueue(), BlockingQueue::size);
+    }
+
+    /**
+     * @param file       이미 원본 업로드가 끝난 이미지 파일
+     * @param pathPrefix 원본과 같은 저장 경로
+     * @return 생성한 리사이즈 이미지 URL (생성하지 못한 항목은 null)
+     */
+    public Variants generate(MultipartFile file, String pathPrefix) {
+        // 요청 스레드와 작업 중 먼저 가져가는 쪽이 결과를 가짐 (요청이 포기한 뒤 끝난 리사이즈본은 작업이 삭제)
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<Variants> future;
+        try {
+            future = executor.submit(() -> {
+                Variants variants = resizeTimer.recordCallable(() -> createVariants(file, pathPrefix));
+                if (!claimed.compareAndSet(false, true)) {
+                    deleteVariants(variants);
+                    return Variants.NONE;
+                }
+                return variants;
+            });
+        } catch (RejectedExecutionException e) {
+            skippedCounter.increment();
+            log.warn(">> 이미지 리사이즈 대기열 초과, 원본 사용: {}", file.getOriginalFilename());
+            return Variants.NONE;
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!claimed.compareAndSet(false, true)) {
+                // 작업이 방금 끝나서 결과를 가져감
+                return getQuietly(future);
+            }
+            future.cancel(true);
+            log.warn(">> 이미지 리사이즈 시간 초과, 원본 사용: {}", file.getOriginalFilename());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!claimed.compareAndSet(false, true)) {
+                return getQuietly(future);
+            }
+        } catch (ExecutionException e) {
+            log.warn(">> 이미지 리사이즈 실패, 원본 사용: {} ({})", file.getOriginalFilename(), e.getCause().getMessage());
+        }
+        skippedCounter.increment();
+        return Variants.NONE;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 작업이 결과를 넘긴 뒤에만 호출되므로 바로 끝남
+    private Variants getQuietly(Future<Variants> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            skippedCounter.increment();
+            return Variants.NONE;
+        }
+    }
+
+    private void deleteVariants(Variants variants) {
+        storageService.deleteFile(variants.getThumbnailUrl());
+        storageService.deleteFile(variants.getDetailUrl());
+    }
+
+    private Variants createVariants(MultipartFile file, String pathPrefix) throws IOException {
+        BufferedImage source = decode(file, detailWidth);
+        if (source == null) {
+            // ImageIO가 지원하지 않는 형식 (예: WebP, HEIC) 또는 max-pixels 초과
+            return Variants.NONE;
+        }
+
+        String baseName = baseName(file.getOriginalFilename());
+        List<String> uploaded = new ArrayList<>();
+        try {
+            String thumbnailUrl = storageService.uploadBytes(encode(resize(source, thumbnailWidth)),
+                    pathPrefix, baseName + "_w" + thumbnailWidth + "." + VARIANT_FORMAT, VARIANT_CONTENT_TYPE);
+            uploaded.add(thumbnailUrl);
+
+            String detailUrl = storageService.uploadBytes(encode(resize(source, detailWidth)),
+                    pathPrefix, baseName + "_w" + detailWidth + "." + VARIANT_FORMAT, VARIANT_CONTENT_TYPE);
+
+            return new Variants(thumbnailUrl, detailUrl);
+        } catch (RuntimeException e) {
+            // 일부만 올라간 리사이즈본은 정리하고 원본만 사용
+            uploaded.forEach(storageService::deleteFile);
+            throw e;
+        }
+    }
+
+    // 긴 쪽이 목표 너비의 2배 이상인 이미지는 서브샘플링하며 읽어서 디코딩 메모리를 줄임 (좁고 긴 이미지도 전체 해상도로 읽지 않음)
+    private BufferedImage decode(MultipartFile file, int maxTargetWidth) throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn(">> 이미지 픽셀 수 초과로 리사이즈 생략: {} ({}x{})", file.getOriginalFilename(), width, height);
+                    return null;
+                }
+                int subsampling = Math.max(1, Math.max(width, height) / (maxTargetWidth * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본보다 크게 늘리지는 않음, 투명 영역은 흰 배경으로 채움 (JPEG 저장)
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, VARIANT_FORMAT, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private String baseName(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return "image";
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Variants {
+
+        public static final Variants NONE = new Variants(null, null);
+
+        private final String thumbnailUrl;
+        private final String detailUrl;
+    }
+}
@@ -1,13 +1,14 @@
 package com.foodcom.firstpro.service;
 
+import com.foodcom.firstpro.cache.LoginIdBloomFilter;
 import com.foodcom.firstpro.domain.member.Member;
 import com.foodcom.firstpro.domain.member.MemberJoinDTO;
 import com.foodcom.firstpro.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -15,20 +16,38 @@ import org.springframework.transaction.annotation.Transactional;
 public class LoginService {
 
     private final MemberRepository memberRepository;
-    private final BCryptPasswordEncoder encoder;
-
-    @Transactional
+    private final PasswordEncoder encoder;
+    private final LoginIdBloomFilter loginIdBloomFilter;
+
+    /**
+     * Bloom Filter가 "확실히 없음"이라고 하면 중복 조회 없이 바로 INSERT한다.
+     * 최종 판단은 loginId UNIQUE 제약 (동시 가입, 다른 인스턴스에서 가입한 아이디 포함).
+     * <p>
+     * 해시는 트랜잭션 밖에서 먼저 끝내고, INSERT만 save의 짧은 트랜잭션으로 처리한다.
+     * (해시 풀에서 기다리는 동안 Master 커넥션을 잡고 있지 않도록)
+     */
     public String join(MemberJoinDTO memberJoinDTO) {
-
-        if (memberRepository.findByLoginId(memberJoinDTO.getLoginId()).isPresent()) {
-            throw new IllegalStateException("이미 사용 중인 아이디입니다.");
+        String loginId = memberJoinDTO.getLoginId();
+
+        if (loginIdBloomFilter.mightContain(loginId)) {
+            boolean exists = memberRepository.existsByLoginId(loginId);
+            loginIdBloomFilter.recordLookup(exists);
+            if (exists) {
+                throw new IllegalStateException("이미 사용 중인 아이디입니다.");
+            }
         }
         log.info("CI/CD test");
-        // 단방향 해시 함수를 이용하여 비밀번호 암호화
+        // 단방향 해시 함수를 이용하여 비밀번호 암호화 (트랜잭션 밖)
         memberJoinDTO.setPassword(encoder.encode(memberJoinDTO.getPassword()));
 
         Member member = Member.createMember(memberJoinDTO);
-        memberRepository.save(member);
+        try {
+            // IDENTITY 전략이라 save 시점에 INSERT 실행
+            memberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 사용 중인 아이디입니다.", e);
+        }
+        loginIdBloomFilter.put(loginId);
 
         return member.getId().toString();
     }
@@ -0,0 +1,75 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.config.HedgedRead;
+import com.foodcom.firstpro.domain.common.KeysetCursor;
+import com.foodcom.firstpro.domain.post.PostListResponseDto;
+import com.foodcom.firstpro.domain.post.PostPageResponse;
+import com.foodcom.firstpro.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시물 목록 DB 조회 (PostPageCache의 로더).
+ * <p>
+ * 헤지 읽기는 캐시 아래인 이 DB 조회에만 적용한다. 캐시 위에서 헤지하면 두 번째 시도가 첫 시도의 진행 중인 로드를 기다리기만 하고,
+ * 캐시 적중 응답 시간이 지연 표본에 섞여 deadline이 min-delay로 내려간다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostListReader {
+
+    private final PostRepository postRepository;
+
+    @HedgedRead
+    @Transactional(readOnly = true)
+    public PostPageResponse loadPostList(Pageable pageable) {
+        long loadedAt = System.currentTimeMillis();
+        Page<PostListResponseDto> postPage = postRepository.findPostList(pageable);
+
+        return PostPageResponse.builder()
+                .postList(postPage.getContent())
+                .totalElements(postPage.getTotalElements())
+                .totalPages(postPage.getTotalPages())
+                .size(postPage.getSize())
+                .number(postPage.getNumber() + 1)
+                .last(postPage.isLast())
+                .first(postPage.isFirst())
+                .loadedAt(loadedAt)
+                .build();
+    }
+
+    @HedgedRead
+    @Transactional(readOnly = true)
+    public PostPageResponse loadPostSlice(KeysetCursor cursor, int size) {
+        long loadedAt = System.currentTimeMillis();
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<PostListResponseDto> postSlice = (cursor == null)
+                ? postRepository.findPostSlice(pageable)
+                : postRepository.findPostSliceAfter(cursor.getTimestamp(), cursor.getId(), pageable);
+
+        List<PostListResponseDto> postList = postSlice.getContent();
+
+        String nextCursor = null;
+        if (postSlice.hasNext()) {
+            PostListResponseDto lastPost = postList.get(postList.size() - 1);
+            nextCursor = KeysetCursor.of(lastPost.getModifiedAt(), lastPost.getId()).encode();
+        }
+
+        return PostPageResponse.builder()
+                .postList(postList)
+                .size(size)
+                .last(!postSlice.hasNext())
+                .first(cursor == null)
+                .nextCursor(nextCursor)
+                .loadedAt(loadedAt)
+                .build();
+    }
+}
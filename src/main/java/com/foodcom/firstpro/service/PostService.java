@@ -1,18 +1,27 @@
 package com.foodcom.firstpro.service;
 
+import com.foodcom.firstpro.auth.domain.AuthMember;
 import com.foodcom.firstpro.auth.exception.ResourceNotFoundException;
+import com.foodcom.firstpro.cache.PostPageCache;
+import com.foodcom.firstpro.config.HedgedRead;
+import com.foodcom.firstpro.counter.CommentCountBuffer;
+import com.foodcom.firstpro.domain.comment.CommentSliceResponse;
+import com.foodcom.firstpro.domain.common.KeysetCursor;
 import com.foodcom.firstpro.domain.member.Member;
 import com.foodcom.firstpro.domain.post.*;
+import com.foodcom.firstpro.domain.storage.BlobDeletionOutbox;
+import com.foodcom.firstpro.repository.BlobDeletionOutboxRepository;
 import com.foodcom.firstpro.repository.MemberRepository;
 import com.foodcom.firstpro.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -21,6 +30,7 @@ import org.springframework.security.access.AccessDeniedException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -29,9 +39,21 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final CommentService commentService;
     private final StorageService storageService;
-
-    @Transactional
+    private final ImageUploader imageUploader;
+    private final DirectUploadService directUploadService;
+    private final ImageContentIndex imageContentIndex;
+    private final PostPageCache postPageCache;
+    private final PostListReader postListReader;
+    private final CommentCountBuffer commentCountBuffer;
+    private final BlobDeletionOutboxRepository blobDeletionOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 이미지 업로드(GCS)는 트랜잭션 밖에서 먼저 끝내고, DB 저장만 짧은 트랜잭션으로 처리한다.
+     * 저장에 실패하면 업로드한 이미지를 삭제한다.
+     */
     public Post createPost(String title, String content, List<MultipartFile> imageFiles) throws IOException {
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -43,102 +65,153 @@ public class PostService {
         }
 
         String loginId = authentication.getName(); // testuser123
+        Long memberId = AuthMember.memberIdOf(authentication.getPrincipal());
 
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. (Username: " + loginId + ")"));
+        // 1. 업로드 (게시물 ID가 아직 없으므로 업로드 묶음마다 임의 경로 사용)
+        List<Image> images = imageUploader.uploadAll(imageFiles, "post-images/" + UUID.randomUUID());
 
-        Post post = Post.builder()
-                .title(title)
-                .content(content)
-                .member(member)
-                .build();
+        // 2. 저장 (커넥션은 이 구간에서만 점유)
+        try {
+            return transactionTemplate.execute(status -> {
+                Member member = memberRepository.findReference(memberId, loginId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. (Username: " + loginId + ")"));
 
-        postRepository.save(post);
+                Post post = Post.builder()
+                        .title(title)
+                        .content(content)
+                        .member(member)
+                        .build();
 
-        if (imageFiles != null) {
-            for (MultipartFile file : imageFiles) {
-                if (file != null && !file.isEmpty()) {
+                imageContentIndex.acquire(images);
 
-                    String pathPrefix = "post-images/" + post.getId();
+                // 입력 순서대로 추가 (첫 번째 이미지가 썸네일)
+                for (Image image : images) {
+                    post.addImage(image);
+                }
 
-                    String imageUrl = storageService.uploadFile(file, pathPrefix);
-                    String filename = file.getOriginalFilename();
+                post.updateThumbnail();
+                postRepository.save(post);
+                postPageCache.evictAfterCommit();
+                return post;
+            });
+        } catch (DataIntegrityViolationException e) {
+            deleteUploaded(images);
+            throw missingMemberOr(e, memberId, loginId);
+        } catch (RuntimeException e) {
+            deleteUploaded(images);
+            throw e;
+        }
+    }
 
-                    Image image = Image.builder()
-                            .url(imageUrl)
-                            .filename(filename)
-                            .post(post)
-                            .build();
+    public UploadUrlResponseDto issueUploadUrls(List<UploadUrlRequestDto.ImageFile> images, String loginId) {
+        return directUploadService.issue(images, loginId);
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 업로드한 이미지(서명된 URL)로 게시물을 만든다.
+     * 업로드 여부 확인은 트랜잭션 밖에서, 업로드 기록 소진과 게시물 저장은 같은 트랜잭션에서 처리한다.
+     * 실패해도 업로드된 파일은 지우지 않는다 (기한 내 재시도 가능, 기한이 지나면 정리됨).
+     */
+    public Post createPostFromUploads(String title, String content, List<String> imageKeys, Long memberId, String loginId) {
+
+        // 1. 업로드 확인 (저장소 호출, 커넥션 점유 없음)
+        List<Image> images = directUploadService.toUploadedImages(imageKeys, loginId);
+
+        // 2. 저장
+        try {
+            return transactionTemplate.execute(status -> {
+                directUploadService.claim(imageKeys, loginId);
+
+                Member member = memberRepository.findReference(memberId, loginId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. (Username: " + loginId + ")"));
+
+                Post post = Post.builder()
+                        .title(title)
+                        .content(content)
+                        .member(member)
+                        .build();
 
+                for (Image image : images) {
                     post.addImage(image);
                 }
-            }
-        }
 
-        post.updateThumbnail();
-        return post;
+                post.updateThumbnail();
+                postRepository.save(post);
+                postPageCache.evictAfterCommit();
+                return post;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw missingMemberOr(e, memberId, loginId);
+        }
     }
 
+    @HedgedRead
     @Transactional(readOnly = true)
     public PostResponseDto getPostInfo(Long postId) {
-        Post post = postRepository.findById(postId)
+        // 게시물 + 작성자 + 이미지 1회, 댓글 첫 페이지 + 댓글 작성자 1회 (댓글 수와 무관하게 쿼리 2회)
+        Post post = postRepository.findDetailById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시물을 찾을 수 없습니다. ID = " + postId));
 
-        return new PostResponseDto(post);
+        CommentSliceResponse comments = commentService.getCommentSlice(postId, null, CommentService.DEFAULT_PAGE_SIZE);
+
+        return new PostResponseDto(post, comments);
     }
 
-    @Transactional
+    /**
+     * 권한 확인 -> 새 이미지 업로드 -> 짧은 트랜잭션으로 반영 -> 커밋 후 기존 이미지 삭제 순서로 처리한다.
+     * GCS 호출 중에는 DB 커넥션을 점유하지 않는다.
+     */
     public void updatePost(Long postId, PostUpdateRequestDto updateDto, List<MultipartFile> newFiles,
             String username) throws IOException {
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("게시물을 찾을 수 없습니다."));
-
-        if (!post.getMember().getLoginId().equals(username)) {
-            throw new AccessDeniedException("작성자만 게시물을 수정할 수 있습니다.");
-        }
+        // 1. 권한 확인 (업로드 전에 거절)
+        checkWriter(postId, username);
 
-        post.updateText(updateDto.getTitle(), updateDto.getContent());
+        // 2. 새 이미지 업로드
+        List<Image> newImages = imageUploader.uploadAll(newFiles, "post-images/" + postId);
 
-        List<Long> deleteIds = updateDto.getDeleteImageIds();
-        if (deleteIds != null && !deleteIds.isEmpty()) {
+        // 3. 반영 (지울 파일은 같은 트랜잭션에서 Outbox에 기록)
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Post post = postRepository.findById(postId)
+                        .orElseThrow(() -> new ResourceNotFoundException("게시물을 찾을 수 없습니다."));
 
-            Set<Long> deleteIdSet = new HashSet<>(updateDto.getDeleteImageIds());
+                if (!post.getMember().getLoginId().equals(username)) {
+                    throw new AccessDeniedException("작성자만 게시물을 수정할 수 있습니다.");
+                }
 
-            List<Image> imagesToDelete = post.getImages().stream()
-                    .filter(img -> deleteIdSet.contains(img.getId()))
-                    .toList();
+                post.updateText(updateDto.getTitle(), updateDto.getContent());
 
-            for (Image img : imagesToDelete) {
-                storageService.deleteFile(img.getUrl());
-            }
-            // application.properties에 spring.jpa.properties.hibernate.jdbc.batch_size=50 적용
-            post.getImages().removeAll(imagesToDelete);
-        }
+                List<Image> imagesToDelete = List.of();
+                List<Long> deleteIds = updateDto.getDeleteImageIds();
+                if (deleteIds != null && !deleteIds.isEmpty()) {
 
-        if (newFiles != null && !newFiles.isEmpty()) {
-            for (MultipartFile file : newFiles) {
-                if (file.isEmpty()) {
-                    continue;
-                }
+                    Set<Long> deleteIdSet = new HashSet<>(updateDto.getDeleteImageIds());
 
-                String pathPrefix = "post-images/" + post.getId();
+                    imagesToDelete = post.getImages().stream()
+                            .filter(img -> deleteIdSet.contains(img.getId()))
+                            .toList();
 
-                String imageUrl = storageService.uploadFile(file, pathPrefix);
+                    // application.properties에 spring.jpa.properties.hibernate.jdbc.batch_size=50 적용
+                    post.getImages().removeAll(imagesToDelete);
+                    enqueueDeletion(imagesToDelete);
+                }
 
-                Image image = Image.builder()
-                        .url(imageUrl)
-                        .filename(file.getOriginalFilename())
-                        .post(post)
-                        .build();
+                imageContentIndex.acquire(newImages);
+                for (Image image : newImages) {
+                    post.addImage(image);
+                }
 
-                post.addImage(image);
-            }
+                post.updateThumbnail();
+                postPageCache.evictAfterCommit();
+            });
+        } catch (RuntimeException e) {
+            deleteUploaded(newImages);
+            throw e;
         }
-
-        post.updateThumbnail();
     }
 
+    // 이미지 파일은 같은 트랜잭션에서 Outbox에 기록하고 BlobDeletionWorker가 비동기로 삭제
     @Transactional
     public void deletePost(Long postId, String username) {
         Post post = postRepository.findById(postId)
@@ -148,28 +221,88 @@ public class PostService {
             throw new AccessDeniedException("작성자만 게시물을 삭제할 수 있습니다.");
         }
 
-        List<Image> images = post.getImages();
-        if (images != null && !images.isEmpty()) {
-            for (Image image : images) {
-                storageService.deleteFile(image.getUrl());
-            }
-        }
+        enqueueDeletion(post.getImages());
 
         postRepository.delete(post);
+        postPageCache.evictAfterCommit();
     }
 
-    @Transactional(readOnly = true)
+    // 다른 Image가 아직 참조하는 파일(중복 제거로 공유)은 남겨둠
+    private void enqueueDeletion(List<Image> images) {
+        blobDeletionOutboxRepository.saveAll(imageContentIndex.release(images).stream()
+                .map(BlobDeletionOutbox::new)
+                .toList());
+    }
+
+    private void checkWriter(Long postId, String username) {
+        String writerLoginId = postRepository.findWriterLoginIdById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("게시물을 찾을 수 없습니다."));
+
+        if (!writerLoginId.equals(username)) {
+            throw new AccessDeniedException("작성자만 게시물을 수정할 수 있습니다.");
+        }
+    }
+
+    // findReference는 회원을 조회하지 않으므로 토큰 발급 뒤 회원이 없어졌으면 INSERT의 FK 위반으로 드러난다.
+    // 롤백된 뒤 회원 존재 여부를 확인해 loginId로 조회할 때와 같은 응답으로 바꾼다 (그 외 무결성 위반은 그대로)
+    private RuntimeException missingMemberOr(DataIntegrityViolationException e, Long memberId, String loginId) {
+        if (memberId != null && !memberRepository.existsById(memberId)) {
+            return new IllegalArgumentException("존재하지 않는 사용자입니다. (Username: " + loginId + ")");
+        }
+        return e;
+    }
+
+    // 저장에 실패한 업로드 보상: 인덱스 참조는 저장 트랜잭션과 함께 롤백됐으므로 이번에 새로 올린 파일만 지우고,
+    // 지우지 못한 파일은 Outbox에 남겨 재시도
+    private void deleteUploaded(List<Image> images) {
+        List<String> uploadedUrls = images.stream()
+                .filter(Image::isNewlyUploaded)
+                .flatMap(image -> image.getAllUrls().stream())
+                .toList();
+        if (uploadedUrls.isEmpty()) {
+            return;
+        }
+
+        List<String> failedUrls;
+        try {
+            failedUrls = storageService.deleteFiles(uploadedUrls);
+        } catch (RuntimeException e) {
+            log.warn(">> 업로드한 이미지 삭제 실패, 전부 Outbox로 넘김: {}", e.getMessage());
+            failedUrls = uploadedUrls;
+        }
+
+        blobDeletionOutboxRepository.saveAll(failedUrls.stream()
+                .map(BlobDeletionOutbox::new)
+                .toList());
+    }
+
+    // 트랜잭션은 캐시 미스일 때 PostListReader에서만 시작 (캐시 적중은 커넥션을 잡지 않고, 헤지 읽기도 DB 조회에만 적용)
     public PostPageResponse getPostList(Pageable pageable) {
-        Page<PostListResponseDto> postPage = postRepository.findPostList(pageable);
-
-        return PostPageResponse.builder()
-                .postList(postPage.getContent())
-                .totalElements(postPage.getTotalElements())
-                .totalPages(postPage.getTotalPages())
-                .size(postPage.getSize())
-                .number(postPage.getNumber() + 1)
-                .last(postPage.isLast())
-                .first(postPage.isFirst())
+        PostPageResponse page = postPageCache.getOffsetPage(pageable.getPageNumber() + 1,
+                () -> postListReader.loadPostList(pageable));
+        return withPendingCommentCounts(page);
+    }
+
+    /**
+     * 커서(Keyset) 기반 목록 조회. COUNT 쿼리를 실행하지 않으며, 스크롤 깊이와 무관하게 동일한 비용으로 조회된다.
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     */
+    public PostPageResponse getPostList(KeysetCursor cursor, int size) {
+        PostPageResponse page = (cursor == null)
+                ? postPageCache.getFirstCursorPage(() -> postListReader.loadPostSlice(null, size))
+                : postListReader.loadPostSlice(cursor, size);
+        return withPendingCommentCounts(page);
+    }
+
+    // 캐시된 페이지에도 적용되도록 조회 직후가 아니라 응답 직전에, 페이지를 읽은 시점에 없었을 수 있는 댓글 수를 더함
+    private PostPageResponse withPendingCommentCounts(PostPageResponse page) {
+        List<PostListResponseDto> postList = page.getPostList().stream()
+                .map(post -> post.plusCommentCount(commentCountBuffer.getPendingSince(post.getId(), page.getLoadedAt())))
+                .toList();
+
+        return page.toBuilder()
+                .postList(postList)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,49 @@
 package com.foodcom.firstpro.service;
 
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
-import lombok.RequiredArgsConstructor;
+import com.foodcom.firstpro.storage.BlobStore;
+import com.foodcom.firstpro.storage.ImageContentTypes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 파일 이름 규칙(경로/UUID-파일명), URL 변환, 업로드/삭제 지표를 담당하고 실제 저장은 {@link BlobStore}에 위임한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StorageService {
 
-    private final Storage storage;
+    private final BlobStore blobStore;
 
-    @Value("${gcp.storage.bucket-name}")
-    private String bucketName;
+    private final Timer uploadTimer;
+    private final Counter uploadedBytesCounter;
+    private final DistributionSummary throughputSummary;
+    private final Timer deleteTimer;
+
+    public StorageService(BlobStore blobStore, MeterRegistry meterRegistry) {
+        this.blobStore = blobStore;
+
+        this.uploadTimer = meterRegistry.timer("storage.upload.duration");
+        this.uploadedBytesCounter = meterRegistry.counter("storage.upload.bytes");
+        this.throughputSummary = DistributionSummary.builder("storage.upload.throughput")
+                .baseUnit("bytes_per_second")
+                .register(meterRegistry);
+        this.deleteTimer = meterRegistry.timer("storage.delete.duration");
+    }
 
     /**
      * @param file       클라이언트로부터 받은 이미지 파일
@@ -30,19 +53,40 @@ public class StorageService {
     public String uploadFile(MultipartFile file, String pathPrefix) throws IOException {
 
         String uuid = UUID.randomUUID().toString();
-        String originalFilename = file.getOriginalFilename();
-        String fileName = pathPrefix + "/" + uuid + "-" + originalFilename;
+        // 확장자는 클라이언트 파일 이름이 아니라 Content-Type으로 정함
+        String fileName = pathPrefix + "/" + uuid + "-"
+                + ImageContentTypes.fileNameOf(file.getOriginalFilename(), file.getContentType());
+
+        // 스트리밍 업로드 (파일 전체를 힙에 올리지 않음)
+        long startNanos = System.nanoTime();
+        long totalBytes;
+        try (InputStream inputStream = file.getInputStream()) {
+            totalBytes = blobStore.write(fileName, file.getContentType(), inputStream);
+        }
+        recordUpload(totalBytes, System.nanoTime() - startNanos);
+
+        return blobStore.publicUrl(fileName);
+    }
 
-        // GCS에 업로드할 Blob 정보 생성
-        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, fileName)
-                .setContentType(file.getContentType())
-                .build();
+    /**
+     * 서버에서 생성한 작은 파일(리사이즈된 이미지 등)을 업로드한다.
+     *
+     * @param content  파일 내용 (이미 메모리에 있는 작은 데이터)
+     * @param filename 저장할 파일 이름 (UUID 접두사가 붙고, 확장자는 contentType으로 정함)
+     * @return 파일의 공개 URL
+     */
+    public String uploadBytes(byte[] content, String pathPrefix, String filename, String contentType) {
+        String fileName = pathPrefix + "/" + UUID.randomUUID() + "-" + ImageContentTypes.fileNameOf(filename, contentType);
 
-        // GCS에 파일 업로드
-        storage.create(blobInfo, file.getBytes());
+        long startNanos = System.nanoTime();
+        try {
+            blobStore.write(fileName, contentType, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        recordUpload(content.length, System.nanoTime() - startNanos);
 
-        // CDN URL 반환 (nip.io 도메인 사용 - HTTPS 지원)
-        return String.format("https://34-49-218-153.nip.io/%s", fileName);
+        return blobStore.publicUrl(fileName);
     }
 
     public void deleteFile(String fileUrl) {
@@ -51,32 +95,59 @@ public class StorageService {
         }
 
         try {
-            // nip.io CDN URL: https://34-49-218-153.nip.io/post-images/uuid-file.jpg
-            String splitStr = "https://34-49-218-153.nip.io/";
-
-            // 기존 URL 형식들도 호환 처리
-            if (fileUrl.startsWith("https://storage.googleapis.com/" + bucketName + "/")) {
-                splitStr = "https://storage.googleapis.com/" + bucketName + "/";
-            } else if (fileUrl.startsWith("https://34.49.218.153/")) {
-                splitStr = "https://34.49.218.153/";
-            } else if (fileUrl.startsWith("http://34.49.218.153/")) {
-                splitStr = "http://34.49.218.153/";
-            } else if (!fileUrl.startsWith(splitStr)) {
+            String blobName = blobStore.keyOf(fileUrl);
+            if (blobName == null) {
                 log.warn("지원되지 않는 URL 형식입니다: {}", fileUrl);
                 return;
             }
 
-            String blobName = fileUrl.replace(splitStr, "");
-
-            boolean deleted = storage.delete(BlobId.of(bucketName, blobName));
+            boolean deleted = deleteTimer.recordCallable(() -> blobStore.delete(blobName));
 
             if (deleted) {
-                log.info("GCS 파일 삭제 성공: {}", blobName);
+                log.info("파일 삭제 성공: {}", blobName);
             } else {
-                log.warn("GCS 파일 삭제 실패 (파일 없음): {}", blobName);
+                log.warn("파일 삭제 실패 (파일 없음): {}", blobName);
             }
         } catch (Exception e) {
-            log.error("GCS 파일 삭제 중 오류 발생: {}", fileUrl, e);
+            log.error("파일 삭제 중 오류 발생: {}", fileUrl, e);
+        }
+    }
+
+    /**
+     * 여러 파일을 한 번에 삭제한다 (GCS는 배치 요청 1회, 최대 100건).
+     * 이미 없는 파일과 지원되지 않는 URL은 삭제된 것으로 본다.
+     *
+     * @return 삭제에 실패해서 다시 시도해야 하는 URL 목록
+     */
+    public List<String> deleteFiles(List<String> fileUrls) {
+        Map<String, String> urlByKey = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+
+        for (String fileUrl : fileUrls) {
+            String blobName = blobStore.keyOf(fileUrl);
+            if (blobName == null) {
+                log.warn("지원되지 않는 URL 형식이라 삭제를 건너뜁니다: {}", fileUrl);
+                continue;
+            }
+            urlByKey.put(blobName, fileUrl);
+            keys.add(blobName);
+        }
+
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> failedKeys = deleteTimer.record(() -> blobStore.deleteAll(keys));
+        return failedKeys.stream()
+                .map(urlByKey::get)
+                .toList();
+    }
+
+    private void recordUpload(long totalBytes, long elapsedNanos) {
+        uploadTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        uploadedBytesCounter.increment(totalBytes);
+        if (elapsedNanos > 0) {
+            throughputSummary.record(totalBytes * 1_000_000_000.0 / elapsedNanos);
         }
     }
 }
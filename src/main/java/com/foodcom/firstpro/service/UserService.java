@@ -1,5 +1,6 @@
 package com.foodcom.firstpro.service;
 
+import com.foodcom.firstpro.domain.common.KeysetCursor;
 import com.foodcom.firstpro.domain.member.Member;
 import com.foodcom.firstpro.domain.member.MemberUpdateDto;
 import com.foodcom.firstpro.domain.post.MyPageResponse;
@@ -10,11 +11,14 @@ import com.foodcom.firstpro.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
@@ -26,12 +30,13 @@ public class UserService {
 
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
-    private final BCryptPasswordEncoder encoder;
+    private final PasswordEncoder encoder;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
-    public MyPageResponse getMyPageDetails(String loginId, Pageable pageable) {
+    public MyPageResponse getMyPageDetails(Long memberId, String loginId, Pageable pageable) {
 
-        Member member = memberRepository.findByLoginId(loginId).orElseThrow(
+        Member member = memberRepository.findByIdOrLoginId(memberId, loginId).orElseThrow(
                 () -> new UsernameNotFoundException("사용자 id를 찾을 수 없습니다: " + loginId)
         );
 
@@ -58,30 +63,86 @@ public class UserService {
                 .build();
     }
 
-    //만약 회원정보 수정 후 회원정보 반환값이 필요할 경우 DTO 반환
-    @Transactional
-    public void updateMyInfo(String userId, MemberUpdateDto memberUpdateDto) {
+    // 커서(Keyset) 기반 마이페이지 조회 (COUNT 쿼리 없음)
+    @Transactional(readOnly = true)
+    public MyPageResponse getMyPageDetails(Long memberId, String loginId, KeysetCursor cursor, int size) {
 
-        Member member = memberRepository.findByLoginId(userId).orElseThrow(
-                () -> new UsernameNotFoundException("인증된 사용자 ID를 찾을 수 없습니다: " + userId)
+        Member member = memberRepository.findByIdOrLoginId(memberId, loginId).orElseThrow(
+                () -> new UsernameNotFoundException("사용자 id를 찾을 수 없습니다: " + loginId)
         );
 
-        if (memberUpdateDto.getNewPassword() != null && !memberUpdateDto.getNewPassword().isEmpty()) {
+        Pageable pageable = PageRequest.of(0, size);
 
-            String newPassword = memberUpdateDto.getNewPassword();
+        Slice<Post> postSlice = (cursor == null)
+                ? postRepository.findSliceByMember(member, pageable)
+                : postRepository.findSliceByMemberAfter(member, cursor.getTimestamp(), cursor.getId(), pageable);
 
-            if (!StringUtils.hasText(newPassword)) {
-                throw new IllegalArgumentException("새 비밀번호는 공백이 될 수 없습니다.");
-            }
-            if (encoder.matches(newPassword, member.getPassword())) {
-                log.info("새 비밀번호가 기존 비밀번호와 동일합니다.");
-            } else {
-                String encodedPassword = encoder.encode(newPassword);
+        List<Post> posts = postSlice.getContent();
+
+        String nextCursor = null;
+        if (postSlice.hasNext()) {
+            Post lastPost = posts.get(posts.size() - 1);
+            nextCursor = KeysetCursor.of(lastPost.getModifiedAt(), lastPost.getId()).encode();
+        }
+
+        return MyPageResponse.builder()
+                .loginId(member.getLoginId())
+                .username(member.getUsername())
+                .age(member.getAge())
+                .gender(member.getGender())
+
+                .posts(posts.stream().map(MyPostListResponseDto::new).toList())
+
+                .last(!postSlice.hasNext())
+                .size(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    //만약 회원정보 수정 후 회원정보 반환값이 필요할 경우 DTO 반환
+    /**
+     * 비밀번호 비교/해시는 트랜잭션 밖에서 먼저 끝내고, 변경 반영만 짧은 트랜잭션으로 처리한다.
+     * (해시 풀에서 기다리는 동안 Master 커넥션을 잡고 있지 않도록)
+     */
+    public void updateMyInfo(Long memberId, String userId, MemberUpdateDto memberUpdateDto) {
+
+        // 1. 해시 (커넥션 없이)
+        String encodedPassword = encodeNewPassword(memberId, userId, memberUpdateDto);
+
+        // 2. 저장 (커넥션은 이 구간에서만 점유)
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = findMember(memberId, userId);
+            if (encodedPassword != null) {
                 member.updatePassword(encodedPassword);
                 log.info("비밀번호를 성공적으로 업데이트했습니다.");
             }
+            member.update(memberUpdateDto);
+        });
+    }
+
+    // 새 비밀번호가 없거나 기존과 같으면 null
+    private String encodeNewPassword(Long memberId, String userId, MemberUpdateDto memberUpdateDto) {
+        String newPassword = memberUpdateDto.getNewPassword();
+        if (newPassword == null || newPassword.isEmpty()) {
+            return null;
         }
-        member.update(memberUpdateDto);
+        if (!StringUtils.hasText(newPassword)) {
+            throw new IllegalArgumentException("새 비밀번호는 공백이 될 수 없습니다.");
+        }
+
+        // 기존 해시만 읽고 커넥션은 바로 반납
+        String currentPassword = findMember(memberId, userId).getPassword();
+        if (encoder.matches(newPassword, currentPassword)) {
+            log.info("새 비밀번호가 기존 비밀번호와 동일합니다.");
+            return null;
+        }
+        return encoder.encode(newPassword);
+    }
+
+    private Member findMember(Long memberId, String userId) {
+        return memberRepository.findByIdOrLoginId(memberId, userId).orElseThrow(
+                () -> new UsernameNotFoundException("인증된 사용자 ID를 찾을 수 없습니다: " + userId)
+        );
     }
 
 }
@@ -0,0 +1,43 @@
+package com.foodcom.firstpro.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 파일 저장소 추상화. 기본은 GCS({@link GcsBlobStore}), storage.backend=local 이면 로컬 파일시스템({@link LocalBlobStore}).
+ * 키는 버킷(루트 디렉터리) 내 상대 경로이다. (예: "post-images/1/uuid-food.jpg")
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림을 끝까지 읽어 저장한다. 구현체는 파일 크기와 무관한 고정 크기 버퍼만 사용해야 한다.
+     *
+     * @return 저장한 바이트 수
+     */
+    long write(String key, String contentType, InputStream content) throws IOException;
+
+    // 서버에서 만든 작은 파일 저장용
+    void write(String key, String contentType, byte[] content) throws IOException;
+
+    /**
+     * @return 삭제했으면 true, 원래 없던 파일이면 false
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * 여러 파일을 한 번에 삭제한다. 이미 없는 파일은 삭제된 것으로 본다.
+     *
+     * @return 삭제에 실패해서 다시 시도해야 하는 키 목록
+     */
+    List<String> deleteAll(List<String> keys);
+
+    // 클라이언트가 직접 업로드한 파일 확인용
+    boolean exists(String key);
+
+    // 클라이언트가 접근할 공개 URL
+    String publicUrl(String key);
+
+    // 공개 URL -> 키 (이 저장소의 URL 형식이 아니면 null)
+    String keyOf(String url);
+}
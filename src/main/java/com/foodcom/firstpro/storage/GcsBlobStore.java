@@ -0,0 +1,200 @@
+package com.foodcom.firstpro.storage;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCS 저장소 (기본값).
+ * 업로드는 WriteChannel로 스트리밍하며, 업로드당 힙 사용량은 복사 버퍼 + 청크 크기로 제한된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "gcs", matchIfMissing = true)
+public class GcsBlobStore implements BlobStore {
+
+    private final Storage storage;
+    private final String bucketName;
+    private final String publicBaseUrl;
+
+    // 스트림 -> WriteChannel 복사용 버퍼 크기 / GCS 재개 가능 업로드 청크 크기 (256KB 배수)
+    private final int bufferSize;
+    private final int chunkSize;
+    private final int maxPooledBuffers;
+
+    // 복사용 버퍼는 업로드마다 새로 만들지 않고 재사용 (풀에 보관하는 개수는 maxPooledBuffers로 제한)
+    private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    // 진행 중인 업로드가 점유한 버퍼 바이트 (복사 버퍼 + 청크 버퍼)와 그 최대치
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong peakBufferedBytes = new AtomicLong();
+
+    public GcsBlobStore(Storage storage,
+                        MeterRegistry meterRegistry,
+                        @Value("${gcp.storage.bucket-name}") String bucketName,
+                        @Value("${gcp.storage.public-base-url:https://34-49-218-153.nip.io/}") String publicBaseUrl,
+                        @Value("${storage.upload.buffer-size:65536}") int bufferSize,
+                        @Value("${storage.upload.chunk-size:262144}") int chunkSize,
+                        @Value("${storage.upload.max-pooled-buffers:16}") int maxPooledBuffers) {
+        this.storage = storage;
+        this.bucketName = bucketName;
+        this.publicBaseUrl = publicBaseUrl;
+        this.bufferSize = bufferSize;
+        this.chunkSize = chunkSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+
+        meterRegistry.gauge("storage.upload.buffer.in-use", bufferedBytes);
+        meterRegistry.gauge("storage.upload.buffer.peak", peakBufferedBytes);
+    }
+
+    @Override
+    public long write(String key, String contentType, InputStream content) throws IOException {
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, key)
+                .setContentType(contentType)
+                .build();
+
+        long reserved = bufferSize + (long) chunkSize;
+        peakBufferedBytes.accumulateAndGet(bufferedBytes.addAndGet(reserved), Math::max);
+
+        ByteBuffer buffer = acquireBuffer();
+        long totalBytes = 0;
+        try {
+            WriteChannel writer = storage.writer(blobInfo);
+            writer.setChunkSize(chunkSize);
+
+            int read;
+            while ((read = content.read(buffer.array(), 0, buffer.capacity())) != -1) {
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    writer.write(buffer);
+                }
+                totalBytes += read;
+            }
+
+            // 정상적으로 끝까지 읽은 경우에만 close로 업로드를 확정 (실패 시 불완전한 객체가 생성되지 않음)
+            writer.close();
+        } finally {
+            releaseBuffer(buffer);
+            bufferedBytes.addAndGet(-reserved);
+        }
+        return totalBytes;
+    }
+
+    @Override
+    public void write(String key, String contentType, byte[] content) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, key)
+                .setContentType(contentType)
+                .build();
+
+        storage.create(blobInfo, content);
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return storage.delete(BlobId.of(bucketName, key));
+    }
+
+    // GCS 배치 요청 1회로 삭제 (최대 100건)
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<BlobId> blobIds = keys.stream()
+                .map(key -> BlobId.of(bucketName, key))
+                .toList();
+
+        List<Boolean> results;
+        try {
+            results = storage.delete(blobIds);
+        } catch (Exception e) {
+            log.warn("GCS 배치 삭제 요청 실패 ({}건): {}", blobIds.size(), e.getMessage());
+            return keys;
+        }
+
+        List<String> failedKeys = new ArrayList<>();
+        for (int i = 0; i < blobIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                continue;
+            }
+            // 배치 결과의 false는 "파일 없음"과 "오류"를 구분하지 않으므로 존재 여부를 다시 확인
+            try {
+                if (storage.get(blobIds.get(i)) != null) {
+                    failedKeys.add(keys.get(i));
+                }
+            } catch (Exception e) {
+                failedKeys.add(keys.get(i));
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return storage.get(BlobId.of(bucketName, key)) != null;
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        // CDN URL 반환 (nip.io 도메인 사용 - HTTPS 지원)
+        return publicBaseUrl + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+
+        // nip.io CDN URL: https://34-49-218-153.nip.io/post-images/uuid-file.jpg
+        String splitStr = publicBaseUrl;
+
+        // 기존 URL 형식들도 호환 처리
+        if (url.startsWith("https://storage.googleapis.com/" + bucketName + "/")) {
+            splitStr = "https://storage.googleapis.com/" + bucketName + "/";
+        } else if (url.startsWith("https://34.49.218.153/")) {
+            splitStr = "https://34.49.218.153/";
+        } else if (url.startsWith("http://34.49.218.153/")) {
+            splitStr = "http://34.49.218.153/";
+        } else if (!url.startsWith(splitStr)) {
+            return null;
+        }
+
+        return url.substring(splitStr.length());
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocate(bufferSize);
+        }
+        pooledBuffers.decrementAndGet();
+        return buffer.clear();
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        if (pooledBuffers.incrementAndGet() <= maxPooledBuffers) {
+            bufferPool.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+}
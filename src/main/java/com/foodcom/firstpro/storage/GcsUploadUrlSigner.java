@@ -0,0 +1,58 @@
+package com.foodcom.firstpro.storage;
+
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GCS V4 서명 URL (PUT).
+ * x-goog-content-length-range 헤더를 서명에 포함해서 허용 크기를 넘는 업로드는 GCS가 거절한다.
+ * x-goog-if-generation-match: 0 도 서명에 포함해서 객체가 없을 때만 생성된다 (URL이 만료되기 전에 같은 URL로 게시된 이미지를 덮어쓰는 것 방지, 412).
+ * 서명에는 서비스 계정 키(또는 IAM signBlob 권한)가 필요하다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "gcs", matchIfMissing = true)
+public class GcsUploadUrlSigner implements UploadUrlSigner {
+
+    private static final String CONTENT_LENGTH_RANGE = "x-goog-content-length-range";
+    private static final String IF_GENERATION_MATCH = "x-goog-if-generation-match";
+    private static final String CREATE_ONLY = "0";
+
+    private final Storage storage;
+    private final String bucketName;
+
+    public GcsUploadUrlSigner(Storage storage, @Value("${gcp.storage.bucket-name}") String bucketName) {
+        this.storage = storage;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public SignedUpload sign(String key, String contentType, long maxBytes, Duration ttl) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, key)
+                .setContentType(contentType)
+                .build();
+
+        Map<String, String> extHeaders = Map.of(
+                CONTENT_LENGTH_RANGE, "0," + maxBytes,
+                IF_GENERATION_MATCH, CREATE_ONLY);
+
+        URL url = storage.signUrl(blobInfo, ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withV4Signature(),
+                Storage.SignUrlOption.withContentType(),
+                Storage.SignUrlOption.withExtHeaders(extHeaders));
+
+        return new SignedUpload(url.toString(), "PUT",
+                Map.of("Content-Type", contentType, CONTENT_LENGTH_RANGE, "0," + maxBytes, IF_GENERATION_MATCH, CREATE_ONLY),
+                Instant.now().plus(ttl));
+    }
+}
@@ -0,0 +1,59 @@
+package com.foodcom.firstpro.storage;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 저장 키의 확장자와 서빙 Content-Type 규칙.
+ * <p>
+ * - 키의 확장자는 클라이언트 파일 이름이 아니라 검증한 Content-Type으로 정한다 (x.html을 image/png로 올려도 키는 .png).
+ * - 서빙할 때는 아래 이미지 형식만 그 타입으로 내보내고, 나머지는 다운로드(application/octet-stream)로 내보낸다.
+ *   SVG는 스크립트를 담을 수 있어 제외한다.
+ */
+public final class ImageContentTypes {
+
+    private static final Map<String, String> EXTENSION_BY_TYPE = Map.of(
+            MediaType.IMAGE_JPEG_VALUE, "jpg",
+            MediaType.IMAGE_PNG_VALUE, "png",
+            MediaType.IMAGE_GIF_VALUE, "gif",
+            "image/webp", "webp");
+
+    private static final Map<String, MediaType> TYPE_BY_EXTENSION = Map.of(
+            "jpg", MediaType.IMAGE_JPEG,
+            "jpeg", MediaType.IMAGE_JPEG,
+            "png", MediaType.IMAGE_PNG,
+            "gif", MediaType.IMAGE_GIF,
+            "webp", MediaType.parseMediaType("image/webp"));
+
+    private ImageContentTypes() {
+    }
+
+    /**
+     * 클라이언트 파일 이름에서 확장자를 떼고 Content-Type에 맞는 확장자를 붙인다 (허용하지 않는 타입이면 확장자 없음).
+     */
+    public static String fileNameOf(String originalFilename, String contentType) {
+        String baseName = originalFilename == null ? "" : originalFilename;
+        int dot = baseName.lastIndexOf('.');
+        if (dot >= 0) {
+            baseName = baseName.substring(0, dot);
+        }
+
+        String extension = contentType == null ? null : EXTENSION_BY_TYPE.get(contentType.toLowerCase(Locale.ROOT));
+        if (extension == null) {
+            return baseName.isEmpty() ? "file" : baseName;
+        }
+        return (baseName.isEmpty() ? "image" : baseName) + "." + extension;
+    }
+
+    // 키 확장자가 허용한 이미지 형식이면 그 타입 (아니면 empty -> 다운로드로 서빙)
+    public static Optional<MediaType> servedTypeOf(String key) {
+        int dot = key.lastIndexOf('.');
+        if (dot < 0 || dot < key.lastIndexOf('/')) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(TYPE_BY_EXTENSION.get(key.substring(dot + 1).toLowerCase(Locale.ROOT)));
+    }
+}
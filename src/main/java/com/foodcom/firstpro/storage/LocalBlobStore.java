@@ -0,0 +1,150 @@
+package com.foodcom.firstpro.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 파일시스템 저장소 (storage.backend=local).
+ * GCS 없이 업로드/삭제/다운로드 경로를 그대로 실행해 볼 수 있고, 자체 호스팅 시 LocalFileController(/files/**)가 파일을 직접 서빙한다.
+ * <p>
+ * - 쓰기는 FileChannel.transferFrom으로 고정 크기 단위로 복사한 뒤 임시 파일을 원자적으로 이동한다 (읽는 쪽이 반쯤 쓴 파일을 보지 않음).
+ * - 키는 루트 디렉터리 밖을 가리킬 수 없다.
+ * - 서명된 업로드 URL로 들어온 파일은 새로 만들기만 한다 ({@link #createNew}).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    private static final long TRANSFER_CHUNK_SIZE = 256 * 1024;
+
+    private final Path rootDir;
+    private final String publicBaseUrl;
+
+    public LocalBlobStore(@Value("${storage.local.root-dir:./local-storage}") String rootDir,
+                          @Value("${storage.local.public-base-url:/files/}") String publicBaseUrl) throws IOException {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl;
+        Files.createDirectories(this.rootDir);
+        log.info(">> 로컬 파일 저장소 사용: {}", this.rootDir);
+    }
+
+    @Override
+    public long write(String key, String contentType, InputStream content) throws IOException {
+        return write(key, content, false);
+    }
+
+    /**
+     * 서명된 업로드 URL로 들어온 파일 쓰기: 같은 키의 파일이 이미 있으면 덮어쓰지 않는다
+     * (URL이 만료되기 전에 같은 URL로 다시 올려 이미 게시된 이미지를 바꾸는 것 방지).
+     *
+     * @throws FileAlreadyExistsException 같은 키의 파일이 이미 있을 때
+     */
+    public long createNew(String key, InputStream content) throws IOException {
+        return write(key, content, true);
+    }
+
+    private long write(String key, InputStream content, boolean createOnly) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        if (createOnly && Files.exists(target)) {
+            throw new FileAlreadyExistsException(key);
+        }
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+
+        long position = 0;
+        try {
+            try (ReadableByteChannel source = Channels.newChannel(content);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+            if (createOnly) {
+                // 하드 링크 생성은 대상이 있으면 실패하므로 확인과 생성 사이에 끼어든 업로드도 덮어쓰지 않음
+                Files.createLink(target, temp);
+                Files.delete(temp);
+            } else {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return position;
+    }
+
+    @Override
+    public void write(String key, String contentType, byte[] content) throws IOException {
+        try (InputStream inputStream = new ByteArrayInputStream(content)) {
+            write(key, contentType, inputStream);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        List<String> failedKeys = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (IOException | RuntimeException e) {
+                log.warn("로컬 파일 삭제 실패: {} ({})", key, e.getMessage());
+                failedKeys.add(key);
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(publicBaseUrl)) {
+            return null;
+        }
+        return url.substring(publicBaseUrl.length());
+    }
+
+    /**
+     * 키 -> 실제 파일 경로
+     *
+     * @throws IllegalArgumentException 루트 디렉터리 밖을 가리키는 키 (예: "../etc/passwd")
+     */
+    public Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+            throw new IllegalArgumentException("유효하지 않은 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,82 @@
+package com.foodcom.firstpro.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 로컬 저장소용 서명 URL (GCS 서명 URL 대체).
+ * 키, Content-Type, 최대 크기, 만료 시각을 HMAC-SHA256으로 서명하고 LocalFileController(PUT /files/**)가 검증한다.
+ * 비밀 키를 설정하지 않으면 기동할 때마다 새로 만든다 (재기동 전에 발급한 URL은 무효).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalUploadUrlSigner implements UploadUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final byte[] secret;
+    private final String publicBaseUrl;
+
+    public LocalUploadUrlSigner(@Value("${storage.local.signing-secret:}") String secret,
+                                @Value("${storage.local.public-base-url:/files/}") String publicBaseUrl) {
+        if (secret.isEmpty()) {
+            this.secret = new byte[32];
+            new SecureRandom().nextBytes(this.secret);
+            log.info(">> storage.local.signing-secret 미설정: 임의의 서명 키 사용");
+        } else {
+            this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.publicBaseUrl = publicBaseUrl;
+    }
+
+    @Override
+    public SignedUpload sign(String key, String contentType, long maxBytes, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+
+        String url = publicBaseUrl + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?expires=" + expires
+                + "&max=" + maxBytes
+                + "&signature=" + signature(key, contentType, maxBytes, expires);
+
+        return new SignedUpload(url, "PUT", Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    /**
+     * @return 서명이 맞고 만료되지 않았으면 true
+     */
+    public boolean verify(String key, String contentType, long maxBytes, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = signature(key, contentType, maxBytes, expires).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String signature(String key, String contentType, long maxBytes, long expires) {
+        String payload = key + "\n" + contentType + "\n" + maxBytes + "\n" + expires;
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("업로드 URL 서명에 실패했습니다.", e);
+        }
+    }
+}
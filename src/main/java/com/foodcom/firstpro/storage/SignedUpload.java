@@ -0,0 +1,20 @@
+package com.foodcom.firstpro.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 서명된 업로드 요청. 클라이언트는 url에 method로, headers를 그대로 붙여서 파일 본문을 보낸다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SignedUpload {
+
+    private final String url;
+    private final String method;
+    private final Map<String, String> headers;
+    private final Instant expiresAt;
+}
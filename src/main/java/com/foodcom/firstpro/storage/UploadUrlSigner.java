@@ -0,0 +1,18 @@
+package com.foodcom.firstpro.storage;
+
+import java.time.Duration;
+
+/**
+ * 클라이언트가 API 서버를 거치지 않고 저장소로 직접 업로드할 수 있는 서명된 URL을 발급한다.
+ * 기본은 GCS V4 서명({@link GcsUploadUrlSigner}), storage.backend=local 이면 HMAC 서명({@link LocalUploadUrlSigner}).
+ */
+public interface UploadUrlSigner {
+
+    /**
+     * @param key         업로드할 위치 (버킷 내 상대 경로)
+     * @param contentType 클라이언트가 보내야 하는 Content-Type
+     * @param maxBytes    허용하는 최대 파일 크기
+     * @param ttl         URL 유효 시간
+     */
+    SignedUpload sign(String key, String contentType, long maxBytes, Duration ttl);
+}
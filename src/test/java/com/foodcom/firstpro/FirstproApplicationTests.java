@@ -2,17 +2,37 @@ package com.foodcom.firstpro;
 
 import com.google.cloud.storage.Storage;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 class FirstproApplicationTests {
 
 	@MockitoBean
 	private Storage storage;
 
+	@Autowired
+	private ApplicationContext applicationContext;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void openInViewDisabled() {
+		// 테스트도 운영과 같이 OSIV 없이 실행되어야 트랜잭션 밖 지연 로딩을 잡아낼 수 있음
+		assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+	}
+
+	@Test
+	void forwardedHeadersApplied() {
+		// 프록시 뒤에서 IP 단위 요청 한도가 프록시 IP 하나로 묶이지 않도록 X-Forwarded-For를 remoteAddr로 반영
+		assertThat(applicationContext.containsBean("forwardedHeaderFilter")).isTrue();
+	}
+
 }
@@ -10,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +24,9 @@ class RefreshTokenRepositoryTest {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
     @Autowired
     private StringRedisTemplate redisTemplate;
 
@@ -56,4 +60,72 @@ class RefreshTokenRepositoryTest {
 
         assertThat(expireTime).isGreaterThan(0L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("RefreshToken 교체 - 저장된 값과 같을 때만 교체하고, 직전 토큰이 유예 시간 안에 다시 오면 저장된 토큰을 유지한다")
+    void rotate_CompareAndSwap() {
+        // given
+        String loginId = "testuser";
+        refreshTokenRepository.save(RefreshToken.builder()
+                .loginId(loginId)
+                .tokenValue("old-token")
+                .build());
+        redisTemplate.expire("refreshToken:" + loginId, Duration.ofSeconds(10));
+
+        // when
+        RefreshTokenStore.RotationResult rotated = refreshTokenStore.rotate(loginId, "old-token", "new-token");
+        RefreshTokenStore.RotationResult concurrent = refreshTokenStore.rotate(loginId, "old-token", "other-token");
+
+        // then
+        assertThat(rotated).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+        assertThat(concurrent).isEqualTo(RefreshTokenStore.RotationResult.MISMATCH);
+        // 동시 재발급으로 먼저 교체된 토큰은 그대로 남는다
+        assertThat(refreshTokenRepository.findById(loginId))
+                .map(RefreshToken::getTokenValue)
+                .contains("new-token");
+        assertThat(refreshTokenStore.rotate(loginId, "new-token", "next-token"))
+                .isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("RefreshToken 교체 - 직전보다 오래된 토큰이 재사용되면 저장된 토큰을 삭제한다")
+    void rotate_OlderTokenReused() {
+        // given
+        String loginId = "testuser";
+        refreshTokenRepository.save(RefreshToken.builder()
+                .loginId(loginId)
+                .tokenValue("old-token")
+                .build());
+        refreshTokenStore.rotate(loginId, "old-token", "new-token");
+        refreshTokenStore.rotate(loginId, "new-token", "newer-token");
+
+        // when
+        RefreshTokenStore.RotationResult reused = refreshTokenStore.rotate(loginId, "old-token", "other-token");
+
+        // then
+        assertThat(reused).isEqualTo(RefreshTokenStore.RotationResult.REUSED);
+        assertThat(refreshTokenRepository.findById(loginId)).isEmpty();
+        assertThat(refreshTokenStore.rotate(loginId, "newer-token", "next-token"))
+                .isEqualTo(RefreshTokenStore.RotationResult.MISSING);
+    }
+
+    @Test
+    @DisplayName("RefreshToken 교체 - 교체된 값은 Repository로 조회되고 TTL이 초기화된다")
+    void rotate_ResetTimeToLive() {
+        // given
+        String loginId = "testuser";
+        refreshTokenRepository.save(RefreshToken.builder()
+                .loginId(loginId)
+                .tokenValue("old-token")
+                .build());
+        redisTemplate.expire("refreshToken:" + loginId, Duration.ofSeconds(10));
+
+        // when
+        refreshTokenStore.rotate(loginId, "old-token", "new-token");
+
+        // then
+        assertThat(refreshTokenRepository.findById(loginId)).get()
+                .extracting(RefreshToken::getTokenValue).isEqualTo("new-token");
+        assertThat(redisTemplate.getExpire("refreshToken:" + loginId)).isGreaterThan(RefreshToken.TIME_TO_LIVE_SECONDS - 60);
+    }
+}
@@ -0,0 +1,87 @@
+package com.foodcom.firstpro.auth.util;
+
+import com.foodcom.firstpro.auth.exception.HashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 - 전용 스레드에서 해시/검증하고 소요 시간을 기록한다")
+    void encode_Matches() {
+        // given
+        encoder = new BoundedPasswordEncoder(meterRegistry, 4, 1, 8);
+
+        // when
+        String encoded = encoder.encode("password1234");
+
+        // then
+        assertThat(encoder.matches("password1234", encoded)).isTrue();
+        assertThat(encoder.matches("wrong-password", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("해시 - 대기열이 가득 차면 기다리지 않고 거절한다")
+    void encode_RejectWhenSaturated() throws Exception {
+        // given
+        encoder = new BoundedPasswordEncoder(meterRegistry, 12, 1, 1);
+        int requests = 6;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService callers = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return encoder.encode("password1234");
+                }));
+            }
+            start.countDown();
+
+            int rejected = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(HashingUnavailableException.class);
+                    rejected++;
+                }
+            }
+
+            // then (실행 1 + 대기 1을 넘는 요청은 거절)
+            assertThat(rejected).isGreaterThanOrEqualTo(1);
+            assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(rejected);
+        }
+    }
+
+    @Test
+    @DisplayName("해시 - 저장된 해시의 cost가 설정보다 낮으면 재해시 대상이다")
+    void upgradeEncoding_LowerCost() {
+        // given
+        encoder = new BoundedPasswordEncoder(meterRegistry, 5, 1, 8);
+
+        // when & then
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password1234"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password1234"))).isFalse();
+    }
+}
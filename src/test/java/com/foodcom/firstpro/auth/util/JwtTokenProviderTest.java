@@ -1,5 +1,6 @@
 package com.foodcom.firstpro.auth.util;
 
+import com.foodcom.firstpro.auth.domain.AuthMember;
 import com.foodcom.firstpro.auth.dto.TokenInfo;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -104,4 +105,38 @@ class JwtTokenProviderTest {
         // then
         assertFalse(isValid, "서명이 다른 토큰은 유효하지 않아야 합니다.");
     }
+
+    @Test
+    @DisplayName("토큰 검증 - 예외 없이 거절 사유를 돌려준다")
+    void verifyAccessToken_RejectReason() {
+        // given
+        TokenInfo tokenInfo = jwtTokenProvider.generateToken("user", 1L);
+
+        // when & then
+        assertThat(jwtTokenProvider.verifyAccessToken(tokenInfo.getAccessToken()).isValid()).isTrue();
+        assertThat(jwtTokenProvider.verifyAccessToken(tokenInfo.getRefreshToken()).getRejectReason())
+                .isEqualTo(TokenRejectReason.MISSING_AUTHORITIES);
+        assertThat(jwtTokenProvider.verifyAccessToken("not-a-jwt").getRejectReason())
+                .isEqualTo(TokenRejectReason.MALFORMED);
+        assertThat(jwtTokenProvider.verifyAccessToken("").getRejectReason())
+                .isEqualTo(TokenRejectReason.EMPTY);
+    }
+
+    @Test
+    @DisplayName("인증 정보 - 토큰의 회원 PK를 principal로 전달한다")
+    void getAuthentication_MemberId() {
+        // given
+        Authentication login = new UsernamePasswordAuthenticationToken(
+                new AuthMember("user", "", 42L, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))), "",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        TokenInfo tokenInfo = jwtTokenProvider.generateToken(login);
+
+        // when
+        Authentication authentication = jwtTokenProvider.getAuthentication(tokenInfo.getAccessToken());
+
+        // then
+        assertThat(authentication.getName()).isEqualTo("user");
+        assertThat(AuthMember.memberIdOf(authentication.getPrincipal())).isEqualTo(42L);
+        assertThat(jwtTokenProvider.getMemberIdFromToken(tokenInfo.getRefreshToken())).isEqualTo(42L);
+    }
 }
@@ -0,0 +1,54 @@
+package com.foodcom.firstpro.auth.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RejectedTokenCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Negative Cache - 거절한 토큰은 다시 검증하지 않고 사유별로 집계한다")
+    void get_RejectedToken() {
+        // given
+        RejectedTokenCache cache = new RejectedTokenCache(meterRegistry, true, 100, Duration.ofMinutes(5));
+        String tokenDigest = TokenDigest.of("expired-token");
+
+        // when
+        assertThat(cache.get(tokenDigest)).isNull();
+        cache.put(tokenDigest, TokenRejectReason.EXPIRED);
+
+        // then
+        assertThat(cache.get(tokenDigest)).isEqualTo(TokenRejectReason.EXPIRED);
+        assertThat(cache.get(tokenDigest)).isEqualTo(TokenRejectReason.EXPIRED);
+        assertThat(cache.get(TokenDigest.of("other-token"))).isNull();
+
+        assertThat(count("expired", "verify")).isEqualTo(1);
+        assertThat(count("expired", "cache")).isEqualTo(2);
+        assertThat(meterRegistry.get("jwt.auth.rejected.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Negative Cache - 비활성화하면 집계만 한다")
+    void get_Disabled() {
+        // given
+        RejectedTokenCache cache = new RejectedTokenCache(meterRegistry, false, 100, Duration.ofMinutes(5));
+        String tokenDigest = TokenDigest.of("forged-token");
+
+        // when
+        cache.put(tokenDigest, TokenRejectReason.INVALID_SIGNATURE);
+
+        // then
+        assertThat(cache.get(tokenDigest)).isNull();
+        assertThat(count("invalid_signature", "verify")).isEqualTo(1);
+    }
+
+    private double count(String reason, String source) {
+        return meterRegistry.get("jwt.auth.rejected").tag("reason", reason).tag("source", source).counter().count();
+    }
+}
@@ -0,0 +1,61 @@
+package com.foodcom.firstpro.auth.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("캐시 - 검증된 토큰은 만료 전까지 같은 인증 정보를 돌려주고 적중/실패를 집계한다")
+    void get_HitUntilExpiration() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, true, 100);
+        Authentication authentication = authentication("user");
+
+        // when
+        assertThat(cache.get(TokenDigest.of("token"))).isNull();
+        cache.put(TokenDigest.of("token"), authentication, new Date(System.currentTimeMillis() + 60_000));
+        cache.put(TokenDigest.of("expired"), authentication, new Date(System.currentTimeMillis() - 1));
+
+        // then
+        assertThat(cache.get(TokenDigest.of("token"))).isSameAs(authentication);
+        assertThat(cache.get(TokenDigest.of("other"))).isNull();
+        assertThat(cache.get(TokenDigest.of("expired"))).isNull();
+
+        assertThat(meterRegistry.get("jwt.auth.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.auth.cache").tag("result", "miss").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("jwt.auth.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 - 최대 개수를 넘지 않는다")
+    void put_Bounded() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, true, 10);
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.put(TokenDigest.of("token-" + i), authentication("user" + i), expiration);
+        }
+
+        // then
+        assertThat(meterRegistry.get("jwt.auth.cache.size").gauge().value()).isLessThanOrEqualTo(10);
+        assertThat(cache.get(TokenDigest.of("token-99"))).isNotNull();
+    }
+
+    private Authentication authentication(String username) {
+        return new UsernamePasswordAuthenticationToken(username, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
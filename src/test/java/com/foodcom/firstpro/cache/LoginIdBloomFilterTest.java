@@ -0,0 +1,51 @@
+package com.foodcom.firstpro.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class LoginIdBloomFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    @DisplayName("Bloom Filter - 준비 전에는 모든 아이디를 DB에서 확인한다")
+    void mightContain_BeforeWarmUp() {
+        // given
+        LoginIdBloomFilter filter = new LoginIdBloomFilter(jdbcTemplate, meterRegistry, 1000, 0.01);
+
+        // when & then
+        assertThat(filter.mightContain("newuser")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bloom Filter - 추가한 아이디는 항상 있음, 나머지는 설정한 오탐률 근처로만 있음")
+    void mightContain_FalsePositiveRate() {
+        // given
+        LoginIdBloomFilter filter = new LoginIdBloomFilter(jdbcTemplate, meterRegistry, 10_000, 0.01);
+        filter.warmUp(); // 빈 테이블 (jdbcTemplate mock)
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("member" + i)).isTrue();
+            if (filter.mightContain("newcomer" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        assertThat(meterRegistry.get("member.login-id-filter").tag("result", "absent").counter().count())
+                .isEqualTo(10_000 - falsePositives);
+    }
+}
@@ -0,0 +1,229 @@
+package com.foodcom.firstpro.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodcom.firstpro.domain.post.PostPageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class PostPageCacheTest {
+
+    private static final List<String> KEYS = List.of("{postPage}:v2", "{postPage}:version");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private ValueOperations<String, String> valueOperations;
+    private PostPageCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        cache = new PostPageCache(redisTemplate, objectMapper, meterRegistry,
+                true, Duration.ofSeconds(30), 5, 3000, 5000, Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - DB를 조회하지 않고 저장된 페이지를 돌려준다")
+    void getOffsetPage_Hit() throws Exception {
+        // given
+        given(hashOperations.get("{postPage}:v2", "offset:1"))
+                .willReturn(objectMapper.writeValueAsString(new PostPageCache.CachedPage(1234L, page(1))));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        PostPageResponse result = cache.getOffsetPage(1, () -> {
+            loads.incrementAndGet();
+            return page(2);
+        });
+
+        // then
+        assertThat(result.getNumber()).isEqualTo(1);
+        assertThat(result.getLoadedAt()).isEqualTo(1234L);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - DB 조회 전에 읽은 버전과 TTL을 넘겨 저장한다 (그 사이 무효화됐으면 스크립트가 저장하지 않음)")
+    void getOffsetPage_MissWritesWithVersionAndTtl() {
+        // given
+        given(valueOperations.get("{postPage}:version")).willReturn("3");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        PostPageResponse result = cache.getOffsetPage(1, () -> {
+            loads.incrementAndGet();
+            return page(1);
+        });
+
+        // then: 버전은 DB 조회보다 먼저 읽어야 무효화 직전에 읽은 페이지가 저장되지 않음
+        assertThat(result.getNumber()).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+        InOrder inOrder = inOrder(valueOperations, redisTemplate);
+        inOrder.verify(valueOperations).get("{postPage}:version");
+        inOrder.verify(redisTemplate).execute(anyScript(), eq(KEYS),
+                eq("3"), eq("offset:1"), anyString(), eq("30000"));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - 버전을 읽지 못하면 저장하지 않는다")
+    void getOffsetPage_NoVersionNoWrite() {
+        // given
+        given(valueOperations.get("{postPage}:version")).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        cache.getOffsetPage(1, () -> page(1));
+
+        // then
+        verify(redisTemplate, never()).execute(anyScript(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("동시 미스 - 같은 페이지는 한 번만 DB에서 읽고 나머지는 그 결과를 기다린다")
+    void getOffsetPage_Coalesced() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<PostPageResponse> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return page(1);
+        };
+
+        // when
+        CompletableFuture<PostPageResponse> leader = CompletableFuture.supplyAsync(() -> cache.getOffsetPage(1, loader));
+        loading.await(5, TimeUnit.SECONDS);
+        CompletableFuture<PostPageResponse> waiter = CompletableFuture.supplyAsync(() -> cache.getOffsetPage(1, loader));
+        awaitCoalesced();
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS).getNumber()).isEqualTo(1);
+        assertThat(waiter.get(5, TimeUnit.SECONDS).getNumber()).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("동시 미스 - 먼저 읽던 요청이 실패하면 기다리던 요청도 DB를 다시 조회하지 않고 같은 예외로 끝난다")
+    void getOffsetPage_CoalescedFailure() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<PostPageResponse> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            throw new QueryTimeoutException("slow query");
+        };
+
+        // when
+        CompletableFuture<PostPageResponse> leader = CompletableFuture.supplyAsync(() -> cache.getOffsetPage(1, loader));
+        loading.await(5, TimeUnit.SECONDS);
+        CompletableFuture<PostPageResponse> waiter = CompletableFuture.supplyAsync(() -> cache.getOffsetPage(1, loader));
+        awaitCoalesced();
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(QueryTimeoutException.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(QueryTimeoutException.class);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 실패 후 backoff 동안은 Redis를 호출하지 않고 DB에서 바로 조회한다")
+    void getOffsetPage_BypassAfterFailure() {
+        // given
+        given(hashOperations.get(anyString(), any())).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        PostPageResponse first = cache.getOffsetPage(1, () -> page(1));
+        PostPageResponse second = cache.getOffsetPage(2, () -> page(2));
+
+        // then
+        assertThat(first.getNumber()).isEqualTo(1);
+        assertThat(second.getNumber()).isEqualTo(2);
+        verify(hashOperations, times(1)).get(anyString(), any());
+        assertThat(meterRegistry.counter("post.page.cache", "result", "error").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 - 커밋 직후 한 번, 복제 지연 뒤 한 번 더 비우고, 연속된 쓰기의 지연 무효화는 한 번으로 합친다")
+    void evictAfterCommit_EvictsAgainAfterReplicaLag() {
+        // when
+        cache.evictAfterCommit();
+        cache.evictAfterCommit();
+
+        // then: 즉시 2회 + 지연 1회
+        verify(redisTemplate, times(2)).execute(anyScript(), eq(KEYS));
+        verify(redisTemplate, timeout(2000).times(3)).execute(anyScript(), eq(KEYS));
+        verify(redisTemplate, after(300).times(3)).execute(anyScript(), eq(KEYS));
+    }
+
+    private void awaitCoalesced() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("post.page.cache", "result", "coalesced").count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+
+    private static PostPageResponse page(int number) {
+        return PostPageResponse.builder()
+                .postList(List.of())
+                .number(number)
+                .build();
+    }
+}
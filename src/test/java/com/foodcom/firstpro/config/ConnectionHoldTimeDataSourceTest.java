@@ -0,0 +1,56 @@
+package com.foodcom.firstpro.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ConnectionHoldTimeDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("커넥션 반납 시 API(URI 패턴)별로 점유 시간이 기록된다")
+    void recordsHoldTimePerEndpoint() throws Exception {
+        // given
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionHoldTimeDataSource dataSource = new ConnectionHoldTimeDataSource(target, meterRegistry);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/posts");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when
+        Connection borrowed = dataSource.getConnection();
+        borrowed.setAutoCommit(false);
+        borrowed.close();
+
+        // then
+        verify(connection).setAutoCommit(false);
+        verify(connection).close();
+
+        Timer timer = meterRegistry.get("db.connection.hold")
+                .tag("uri", "/posts")
+                .tag("method", "POST")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.foodcom.firstpro.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HedgedReadAspectTest {
+
+    private static final String SIGNATURE = "PostService.getPostInfo(Long)";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HedgedReadAspect aspect = new HedgedReadAspect(meterRegistry, true, 10, 20, 5, 16);
+
+    @AfterEach
+    void tearDown() {
+        aspect.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 시도가 deadline 안에 끝나지 않으면 두 번째 시도를 보내고 먼저 끝난 결과를 사용한다")
+    void hedge_SlowPrimary() throws Throwable {
+        // given: 첫 호출만 느림
+        AtomicInteger calls = new AtomicInteger();
+        ProceedingJoinPoint joinPoint = joinPoint();
+        given(joinPoint.proceed()).willAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                Thread.sleep(5_000);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // when
+        Object result = aspect.hedge(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(meterRegistry.counter("db.hedge.issued").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("db.hedge.result", "winner", "hedge").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 시도가 deadline 안에 끝나면 두 번째 시도를 보내지 않는다")
+    void hedge_FastPrimary() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint();
+        given(joinPoint.proceed()).willReturn("primary");
+
+        // when
+        Object result = aspect.hedge(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        verify(joinPoint, times(1)).proceed();
+        assertThat(meterRegistry.counter("db.hedge.issued").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤지 예산을 모두 쓰면 첫 시도만 기다린다")
+    void hedge_BudgetExhausted() throws Throwable {
+        // given: 느린 첫 시도로 예산(10회)을 모두 사용
+        ProceedingJoinPoint joinPoint = joinPoint();
+        given(joinPoint.proceed()).willAnswer(invocation -> {
+            if (ReadAttempt.current().isPrimary()) {
+                Thread.sleep(100);
+                return "primary";
+            }
+            return "hedge";
+        });
+        for (int i = 0; i < 10; i++) {
+            aspect.hedge(joinPoint);
+        }
+        willAnswer(invocation -> {
+            Thread.sleep(100);
+            return "primary";
+        }).given(joinPoint).proceed();
+
+        // when
+        Object result = aspect.hedge(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.counter("db.hedge.skipped", "reason", "budget").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deadline 표본은 이긴 쪽이 아니라 첫 시도 자신의 응답 시간이다")
+    void hedge_RecordsPrimaryLatency() throws Throwable {
+        // given: 예산을 매번 적립해 모두 헤지하고, 첫 시도는 항상 deadline(20ms)보다 느림
+        HedgedReadAspect hedgeAll = new HedgedReadAspect(meterRegistry, true, 10, 20, 100, 16);
+        ProceedingJoinPoint joinPoint = joinPoint();
+        given(joinPoint.proceed()).willAnswer(invocation -> {
+            if (ReadAttempt.current().isPrimary()) {
+                Thread.sleep(60);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        try {
+            // when: 표본 64개가 모이면 p95를 다시 계산
+            for (int i = 0; i < 64; i++) {
+                assertThat(hedgeAll.hedge(joinPoint)).isEqualTo("hedge");
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (hedgeAll.latencyPercentileNanos(SIGNATURE) < 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // then: 헤지가 이긴 시간(약 20ms)이 아니라 첫 시도 시간(60ms 이상)
+            assertThat(hedgeAll.latencyPercentileNanos(SIGNATURE)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(60));
+        } finally {
+            hedgeAll.shutdown();
+        }
+    }
+
+    private ProceedingJoinPoint joinPoint() {
+        Signature signature = mock(Signature.class);
+        given(signature.toLongString()).willReturn(SIGNATURE);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+        return joinPoint;
+    }
+}
@@ -0,0 +1,211 @@
+package com.foodcom.firstpro.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class ReadReplicasTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("가중 라운드 로빈 - 가중치 비율대로 나눠 보낸다")
+    void chooseForRead_Weighted() {
+        // given
+        ReadReplicas readReplicas = new ReadReplicas(List.of(
+                new ReadReplica("r1", mock(DataSource.class), 3),
+                new ReadReplica("r2", mock(DataSource.class), 1)),
+                ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, meterRegistry);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            counts.merge(readReplicas.chooseForRead(), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).containsEntry("r1", 300).containsEntry("r2", 100);
+        assertThat(meterRegistry.counter("db.routing", "target", "r1").count()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("상태 확인이 연속으로 실패한 복제본은 제외하고, 모두 제외되면 Master로 보낸다")
+    void healthCheck_EjectAndRestore() throws SQLException {
+        // given
+        DataSource healthy = dataSource(true);
+        DataSource failing = mock(DataSource.class);
+        given(failing.getConnection()).willThrow(new SQLException("connection refused"));
+
+        ReadReplicas readReplicas = new ReadReplicas(List.of(
+                new ReadReplica("r1", healthy, 1),
+                new ReadReplica("r2", failing, 1)),
+                ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, meterRegistry);
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(readReplicas, mock(DataSource.class), meterRegistry, 2, 1, 3000, 1000);
+
+        // when: 한 번 실패는 아직 제외하지 않음
+        checker.probeAll();
+
+        // then
+        assertThat(readReplicas.getReplicas().get(1).isHealthy()).isTrue();
+
+        // when: 두 번째 실패로 제외
+        checker.probeAll();
+
+        // then
+        assertThat(readReplicas.getReplicas().get(1).isHealthy()).isFalse();
+        assertThat(List.of(readReplicas.chooseForRead(), readReplicas.chooseForRead())).containsOnly("r1");
+
+        // when: r1도 실패하면 Master로 대체
+        readReplicas.getReplicas().get(0).markHealthy(false);
+
+        // then
+        assertThat(readReplicas.chooseForRead()).isEqualTo(ReadReplicas.MASTER);
+        assertThat(meterRegistry.counter("db.routing", "target", "MASTER_FALLBACK").count()).isEqualTo(1);
+
+        // when: 복구되면 다시 포함
+        willAnswer(invocation -> connection(true)).given(failing).getConnection();
+        checker.probeAll();
+
+        // then
+        assertThat(readReplicas.getReplicas()).allMatch(ReadReplica::isHealthy);
+        assertThat(meterRegistry.get("db.replica.healthy").tag("replica", "r2").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연 - 기준을 넘으면 제외하고, 회복 기준 이하로 내려와야 다시 포함한다")
+    void updateLag_Hysteresis() {
+        // given
+        ReadReplicas readReplicas = new ReadReplicas(List.of(
+                new ReadReplica("r1", mock(DataSource.class), 1),
+                new ReadReplica("r2", mock(DataSource.class), 1)),
+                ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, meterRegistry);
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(readReplicas, mock(DataSource.class), meterRegistry, 2, 1, 3000, 1000);
+        ReadReplica r2 = readReplicas.getReplicas().get(1);
+
+        // when: 기준(3초) 초과로 제외
+        checker.updateLag(r2, 5000);
+
+        // then
+        assertThat(List.of(readReplicas.chooseForRead(), readReplicas.chooseForRead())).containsOnly("r1");
+        assertThat(meterRegistry.get("db.replica.lag").tag("replica", "r2").gauge().value()).isEqualTo(5.0);
+
+        // when: 기준 이하지만 회복 기준(1초)보다 크면 계속 제외
+        checker.updateLag(r2, 2000);
+
+        // then
+        assertThat(r2.isRoutable()).isFalse();
+
+        // when: 회복 기준 이하로 내려오면 다시 포함
+        checker.updateLag(r2, 500);
+
+        // then
+        assertThat(r2.isRoutable()).isTrue();
+        assertThat(meterRegistry.counter("db.replica.lag.diverted").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태 확인 - 응답 없는 복제본이 다른 복제본의 상태 확인을 막지 않는다")
+    void healthCheck_StalledReplicaDoesNotBlockOthers() throws Exception {
+        // given: r1은 커넥션을 얻는 데서 멈추고, r2는 실패
+        CountDownLatch release = new CountDownLatch(1);
+        DataSource stalled = mock(DataSource.class);
+        given(stalled.getConnection()).willAnswer(invocation -> {
+            release.await();
+            return connection(true);
+        });
+        DataSource failing = mock(DataSource.class);
+        given(failing.getConnection()).willThrow(new SQLException("connection refused"));
+
+        ReadReplicas readReplicas = new ReadReplicas(List.of(
+                new ReadReplica("r1", stalled, 1),
+                new ReadReplica("r2", failing, 1)),
+                ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, meterRegistry);
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(readReplicas, mock(DataSource.class), meterRegistry, 2, 1, 3000, 1000);
+
+        try {
+            // when
+            checker.start(10, 0);
+
+            // then: r1이 멈춰 있어도 r2는 연속 실패로 제외된다
+            assertThat(awaitTrue(() -> !readReplicas.getReplicas().get(1).isHealthy())).isTrue();
+            assertThat(readReplicas.getReplicas().get(0).isHealthy()).isTrue();
+        } finally {
+            release.countDown();
+            checker.close();
+        }
+    }
+
+    @Test
+    @DisplayName("복제 지연 - 인스턴스마다 자기 하트비트 행에 기록하고 그 행으로 지연을 잰다")
+    void measureLag_HeartbeatRowPerInstance() throws Exception {
+        // given: 같은 DB를 Master와 복제본으로 쓰는 인스턴스 두 개
+        DataSource database = new DriverManagerDataSource("jdbc:h2:mem:replica-heartbeat;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE replication_heartbeat (id BIGINT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+
+        ReadReplica first = new ReadReplica("r1", database, 1);
+        ReadReplica second = new ReadReplica("r1", database, 1);
+        ReplicaHealthChecker firstChecker = new ReplicaHealthChecker(
+                new ReadReplicas(List.of(first), ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, new SimpleMeterRegistry()),
+                database, meterRegistry, 2, 1, 3000, 1000);
+        ReplicaHealthChecker secondChecker = new ReplicaHealthChecker(
+                new ReadReplicas(List.of(second), ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, new SimpleMeterRegistry()),
+                database, meterRegistry, 2, 1, 3000, 1000);
+
+        try {
+            // when
+            firstChecker.measureLag();
+            secondChecker.measureLag();
+
+            // then: 서로의 행을 덮어쓰지 않고, 각자 방금 기록한 행으로 지연을 잰다
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM replication_heartbeat", Integer.class)).isEqualTo(2);
+            assertThat(awaitTrue(() -> first.getLagMillis() >= 0 && second.getLagMillis() >= 0)).isTrue();
+            assertThat(first.getLagMillis()).isLessThan(1000);
+            assertThat(second.getLagMillis()).isLessThan(1000);
+        } finally {
+            firstChecker.close();
+            secondChecker.close();
+        }
+
+        // 종료 시 자기 행은 정리
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM replication_heartbeat", Integer.class)).isZero();
+        jdbcTemplate.execute("DROP TABLE replication_heartbeat");
+    }
+
+    private boolean awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private DataSource dataSource(boolean valid) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.getConnection()).willAnswer(invocation -> connection(valid));
+        return dataSource;
+    }
+
+    private Connection connection(boolean valid) throws SQLException {
+        Connection connection = mock(Connection.class);
+        given(connection.isValid(anyInt())).willReturn(valid);
+        return connection;
+    }
+}
@@ -0,0 +1,108 @@
+package com.foodcom.firstpro.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadReplicas readReplicas = new ReadReplicas(
+            List.of(new ReadReplica("r1", mock(DataSource.class), 1)),
+            ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, meterRegistry);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(mock(StringRedisTemplate.class),
+            meterRegistry, true, Duration.ofMinutes(1), 100, false, 5000);
+    private final RoutingDataSource routingDataSource = new RoutingDataSource(readReplicas, tracker);
+
+    @AfterEach
+    void tearDown() {
+        ReadAttempt.unbind();
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션을 커밋한 사용자의 읽기는 Master로, 다른 사용자의 읽기는 복제본으로 보낸다")
+    void determineCurrentLookupKey_ReadYourWrites() {
+        // given: user1의 쓰기 트랜잭션 커밋
+        authenticate("user1");
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadReplicas.MASTER);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // when & then
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadReplicas.MASTER);
+
+        authenticate("user2");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("r1");
+
+        assertThat(meterRegistry.counter("db.routing", "target", "MASTER_PINNED").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기 트랜잭션은 표시하지 않는다")
+    void determineCurrentLookupKey_RolledBack() {
+        // given
+        authenticate("user1");
+        TransactionSynchronizationManager.initSynchronization();
+        routingDataSource.determineCurrentLookupKey();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("r1");
+    }
+
+    @Test
+    @DisplayName("헤지 읽기의 두 번째 시도는 첫 시도가 간 복제본을 피한다")
+    void determineCurrentLookupKey_HedgeAvoidsPrimaryReplica() {
+        // given: 복제본 2개, 첫 시도가 간 복제본 기록
+        ReadReplicas twoReplicas = new ReadReplicas(
+                List.of(new ReadReplica("r1", mock(DataSource.class), 1), new ReadReplica("r2", mock(DataSource.class), 1)),
+                ReadReplicas.Strategy.WEIGHTED_ROUND_ROBIN, meterRegistry);
+        RoutingDataSource routing = new RoutingDataSource(twoReplicas, tracker);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        ReadAttempt primary = ReadAttempt.primary();
+        primary.bind();
+        Object primaryTarget = routing.determineCurrentLookupKey();
+
+        // when & then: 라운드 로빈 순서와 무관하게 매번 다른 복제본으로
+        for (int i = 0; i < 4; i++) {
+            ReadAttempt.hedgeOf(primary).bind();
+            assertThat(routing.determineCurrentLookupKey())
+                    .isIn("r1", "r2")
+                    .isNotEqualTo(primaryTarget);
+        }
+    }
+
+    private void authenticate(String loginId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(loginId, null, List.of()));
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
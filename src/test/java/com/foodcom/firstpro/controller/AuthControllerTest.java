@@ -1,9 +1,10 @@
 package com.foodcom.firstpro.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.foodcom.firstpro.auth.domain.RefreshToken;
 import com.foodcom.firstpro.auth.dto.TokenInfo;
 import com.foodcom.firstpro.auth.repository.RefreshTokenRepository;
+import com.foodcom.firstpro.auth.repository.RefreshTokenStore;
+import com.foodcom.firstpro.auth.repository.RefreshTokenStore.RotationResult;
 import com.foodcom.firstpro.auth.util.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,9 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.Cookie;
 import java.util.Collections;
-import java.util.Optional;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -42,6 +43,9 @@ public class AuthControllerTest {
         @MockitoBean
         private RefreshTokenRepository refreshTokenRepository;
 
+        @MockitoBean
+        private RefreshTokenStore refreshTokenStore;
+
         @MockitoBean
         private com.google.cloud.storage.Storage storage;
 
@@ -57,15 +61,9 @@ public class AuthControllerTest {
                 TokenInfo tokenInfo = jwtTokenProvider.generateToken(authentication);
                 String refreshTokenVal = tokenInfo.getRefreshToken();
 
-                // RefreshTokenRepository가 저장된 토큰을 반환하도록 Mocking
-                RefreshToken storedToken = RefreshToken.builder()
-                                .loginId(loginId)
-                                .tokenValue(refreshTokenVal)
-                                .build();
-
-                given(refreshTokenRepository.findById(loginId)).willReturn(Optional.of(storedToken));
-                given(refreshTokenRepository.save(any(RefreshToken.class)))
-                                .willAnswer(invocation -> invocation.getArgument(0));
+                // 저장된 토큰과 일치해서 교체에 성공하도록 Mocking
+                given(refreshTokenStore.rotate(eq(loginId), eq(refreshTokenVal), anyString()))
+                                .willReturn(RotationResult.ROTATED);
 
                 // when & then
                 mockMvc.perform(post("/auth/reissue")
@@ -100,4 +98,22 @@ public class AuthControllerTest {
                                 .accept(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isUnauthorized());
         }
+
+        @Test
+        @DisplayName("토큰 재발급 실패 - 이미 교체된 토큰 재사용 (401 Unauthorized)")
+        public void reissueAccessToken_ReusedToken() throws Exception {
+                // given
+                String loginId = "testuser";
+                String refreshTokenVal = jwtTokenProvider.generateToken(loginId, 1L).getRefreshToken();
+
+                given(refreshTokenStore.rotate(eq(loginId), eq(refreshTokenVal), anyString()))
+                                .willReturn(RotationResult.REUSED);
+
+                // when & then
+                mockMvc.perform(post("/auth/reissue")
+                                .cookie(new Cookie("refresh_token", refreshTokenVal))
+                                .with(csrf())
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isUnauthorized());
+        }
 }
@@ -1,5 +1,6 @@
 package com.foodcom.firstpro.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.foodcom.firstpro.domain.comment.Comment;
 import com.foodcom.firstpro.domain.member.Member;
@@ -22,7 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
 import com.foodcom.firstpro.domain.member.Gender;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -36,6 +41,9 @@ public class CommentControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private CommentRepository commentRepository;
 
@@ -90,4 +98,44 @@ public class CommentControllerTest {
             throw new AssertionError("댓글이 DB에 저장되지 않았습니다.");
         }
     }
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회 - nextCursor로 다음 페이지를 이어서 조회")
+    public void getComments_Cursor() throws Exception {
+        // given
+        for (int i = 1; i <= 25; i++) {
+            commentRepository.save(Comment.builder()
+                    .content("Comment " + i)
+                    .post(testPost)
+                    .member(testMember)
+                    .build());
+        }
+
+        // when & then (첫 페이지)
+        String firstPage = mockMvc.perform(get("/posts/{postId}/comments", testPost.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(20)))
+                .andExpect(jsonPath("$.comments[0].content").value("Comment 1"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode root = objectMapper.readTree(firstPage);
+        String nextCursor = root.get("nextCursor").asText();
+
+        // when & then (두 번째 페이지)
+        mockMvc.perform(get("/posts/{postId}/comments", testPost.getId())
+                .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(5)))
+                .andExpect(jsonPath("$.comments[0].content").value("Comment 21"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 실패 - 존재하지 않는 게시물 (404)")
+    public void getComments_PostNotFound() throws Exception {
+        mockMvc.perform(get("/posts/{postId}/comments", 999999L))
+                .andExpect(status().isNotFound());
+    }
 }
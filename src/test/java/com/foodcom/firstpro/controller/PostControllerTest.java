@@ -1,13 +1,25 @@
 package com.foodcom.firstpro.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodcom.firstpro.domain.comment.Comment;
 import com.foodcom.firstpro.domain.member.Gender;
 import com.foodcom.firstpro.domain.member.Member;
+import com.foodcom.firstpro.domain.post.Image;
 import com.foodcom.firstpro.domain.post.Post;
+import com.foodcom.firstpro.domain.storage.BlobDeletionOutbox;
+import com.foodcom.firstpro.querystats.QueryBudget;
+import com.foodcom.firstpro.repository.BlobDeletionOutboxRepository;
+import com.foodcom.firstpro.repository.CommentRepository;
 import com.foodcom.firstpro.repository.MemberRepository;
 import com.foodcom.firstpro.repository.PostRepository;
 import com.foodcom.firstpro.service.StorageService;
+import com.foodcom.firstpro.storage.BlobStore;
+import com.foodcom.firstpro.storage.SignedUpload;
+import com.foodcom.firstpro.storage.UploadUrlSigner;
+import com.foodcom.firstpro.domain.post.PostCommitRequestDto;
+import com.foodcom.firstpro.domain.post.UploadUrlRequestDto;
 import com.foodcom.firstpro.domain.post.PostCreateRequestDto;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,15 +34,25 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+                "cache.post-page.enabled=false", // 롤백되는 테스트 데이터가 피드 캐시에 남지 않도록 비활성화
+                "db.query-stats.header.enabled=true" // QueryBudget 검증용 쿼리 통계 헤더
+})
 @AutoConfigureMockMvc
 @Transactional // 테스트 종료 후 DB 롤백
 public class PostControllerTest {
@@ -44,12 +66,27 @@ public class PostControllerTest {
         @Autowired
         private MemberRepository memberRepository;
 
+        @Autowired
+        private BlobDeletionOutboxRepository blobDeletionOutboxRepository;
+
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private CommentRepository commentRepository;
+
+        @Autowired
+        private EntityManager entityManager;
+
         @MockitoBean
         private StorageService storageService;
 
+        @MockitoBean
+        private BlobStore blobStore;
+
+        @MockitoBean
+        private UploadUrlSigner uploadUrlSigner;
+
         private Member testMember;
 
         @BeforeEach
@@ -113,6 +150,69 @@ public class PostControllerTest {
                 // import 필요
         }
 
+        @Test
+        @DisplayName("직접 업로드 게시물 생성 성공 테스트 (업로드 URL 발급 -> key로 등록, 같은 key 재사용 불가)")
+        @WithMockUser(username = "testuser")
+        public void createPostFromUploads_Success() throws Exception {
+                // given
+                given(uploadUrlSigner.sign(anyString(), anyString(), anyLong(), any()))
+                                .willAnswer(invocation -> new SignedUpload(
+                                                "https://signed.example.com/" + invocation.getArgument(0),
+                                                "PUT",
+                                                Map.of("Content-Type", invocation.getArgument(1)),
+                                                Instant.now().plusSeconds(600)));
+                given(blobStore.exists(anyString())).willReturn(true);
+                given(blobStore.publicUrl(anyString()))
+                                .willAnswer(invocation -> "http://dummy-url.com/" + invocation.getArgument(0));
+
+                UploadUrlRequestDto uploadRequest = new UploadUrlRequestDto(
+                                List.of(new UploadUrlRequestDto.ImageFile("pasta.jpg", "image/jpeg")));
+
+                String uploadResponse = mockMvc.perform(post("/posts/uploads")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(uploadRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.uploads[0].method").value("PUT"))
+                                .andExpect(jsonPath("$.uploads[0].headers.Content-Type").value("image/jpeg"))
+                                .andReturn().getResponse().getContentAsString();
+
+                String key = objectMapper.readTree(uploadResponse).get("uploads").get(0).get("key").asText();
+                assertThat(key).startsWith("post-images/uploads/testuser/").endsWith("-pasta.jpg");
+
+                String commitRequest = objectMapper.writeValueAsString(
+                                new PostCommitRequestDto("Direct Title", "Direct Content", List.of(key)));
+
+                // when & then
+                mockMvc.perform(post("/posts")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(commitRequest))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().exists("Location"));
+
+                Post savedPost = postRepository.findAll().stream()
+                                .filter(p -> p.getTitle().equals("Direct Title"))
+                                .findFirst()
+                                .orElseThrow(() -> new AssertionError("게시물이 DB에 저장되지 않았습니다."));
+                assertThat(savedPost.getImages()).extracting(Image::getUrl)
+                                .containsExactly("http://dummy-url.com/" + key);
+                assertThat(savedPost.getImages()).extracting(Image::getFilename)
+                                .containsExactly("pasta.jpg");
+
+                // 이미 사용한 key로 다시 등록
+                mockMvc.perform(post("/posts")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(commitRequest))
+                                .andExpect(status().isBadRequest());
+
+                // 발급받지 않은 key
+                mockMvc.perform(post("/posts")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new PostCommitRequestDto("Title", "Content",
+                                                List.of("post-images/uploads/other/550e8400-e29b-41d4-a716-446655440000-a.jpg")))))
+                                .andExpect(status().isBadRequest());
+                verify(storageService, never()).uploadFile(any(), anyString());
+        }
+
         @Test
         @DisplayName("게시물 상세 조회 성공 테스트 (DB 조회 확인)")
         @WithMockUser(username = "testuser")
@@ -136,6 +236,43 @@ public class PostControllerTest {
                                 .andExpect(jsonPath("$.userName").value("Test User"));
         }
 
+        @Test
+        @DisplayName("게시물 상세 조회 - 댓글 작성자 수와 무관하게 쿼리 예산 안에서 조회된다 (N+1 없음)")
+        @WithMockUser(username = "testuser")
+        public void viewPost_QueryBudget() throws Exception {
+                // given: 서로 다른 작성자의 댓글 5개
+                Post post = Post.builder()
+                                .title("Budget Title")
+                                .content("Budget Content")
+                                .member(testMember)
+                                .build();
+                postRepository.save(post);
+                for (int i = 0; i < 5; i++) {
+                        Member commenter = memberRepository.save(Member.builder()
+                                        .loginId("commenter" + i)
+                                        .password("password")
+                                        .username("Commenter " + i)
+                                        .age(20)
+                                        .gender(Gender.FEMALE)
+                                        .build());
+                        commentRepository.save(Comment.builder()
+                                        .content("comment " + i)
+                                        .post(post)
+                                        .member(commenter)
+                                        .build());
+                }
+                // 영속성 컨텍스트에 남은 엔티티로 지연 로딩이 가려지지 않도록 비움
+                entityManager.flush();
+                entityManager.clear();
+
+                // when & then
+                mockMvc.perform(get("/posts/{postId}", post.getId())
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.comments.length()").value(5))
+                                .andExpect(QueryBudget.statementsAtMost(2));
+        }
+
         @Test
         @DisplayName("게시물 수정 성공 테스트 (DB 변경 확인)")
         @WithMockUser(username = "testuser")
@@ -185,11 +322,10 @@ public class PostControllerTest {
                                 .content("Delete Content")
                                 .member(testMember)
                                 .build();
+                post.addImage(Image.builder().url("http://dummy-url.com/delete.jpg").filename("delete.jpg").build());
                 postRepository.save(post);
                 Long postId = post.getId();
 
-                // Mock StorageService delete (if applicable)
-
                 // when & then
                 mockMvc.perform(delete("/posts/{postId}", postId)
                                 .with(csrf()))
@@ -199,6 +335,12 @@ public class PostControllerTest {
                 if (postRepository.existsById(post.getId())) {
                         throw new AssertionError("게시물이 삭제되지 않았습니다.");
                 }
+
+                // 파일은 요청 중에 지우지 않고 같은 트랜잭션에서 Outbox에 기록
+                assertThat(blobDeletionOutboxRepository.findAll())
+                                .extracting(BlobDeletionOutbox::getBlobUrl)
+                                .containsExactly("http://dummy-url.com/delete.jpg");
+                verify(storageService, never()).deleteFile(anyString());
         }
 
         @Test
@@ -222,6 +364,50 @@ public class PostControllerTest {
                                 .andExpect(jsonPath("$.postList.length()").value(5));
         }
 
+        @Test
+        @DisplayName("게시물 목록 커서 조회 테스트 (다음 커서로 나머지 조회)")
+        @WithMockUser(username = "testuser")
+        public void getPostList_Cursor() throws Exception {
+                // given
+                for (int i = 1; i <= 15; i++) {
+                        postRepository.save(Post.builder()
+                                        .title("Post " + i)
+                                        .content("Content " + i)
+                                        .member(testMember)
+                                        .build());
+                }
+
+                // when & then
+                String firstPage = mockMvc.perform(get("/posts")
+                                .param("cursor", "")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.postList.length()").value(10))
+                                .andExpect(jsonPath("$.last").value(false))
+                                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                                .andReturn().getResponse().getContentAsString();
+
+                String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+                mockMvc.perform(get("/posts")
+                                .param("cursor", nextCursor)
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.postList.length()").value(5))
+                                .andExpect(jsonPath("$.last").value(true))
+                                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("게시물 목록 커서 조회 실패 테스트 - 잘못된 커서 (400 Bad Request)")
+        @WithMockUser(username = "testuser")
+        public void getPostList_InvalidCursor() throws Exception {
+                mockMvc.perform(get("/posts")
+                                .param("cursor", "not-a-cursor")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("게시물 수정 실패 테스트 - 권한 없음 (403 Forbidden)")
         @WithMockUser(username = "otheruser")
@@ -0,0 +1,131 @@
+package com.foodcom.firstpro.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CommentCountBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private CommentCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        buffer = new CommentCountBuffer(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                Duration.ofSeconds(2), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("증가분은 게시물별로 합산되어 한 번의 배치 UPDATE로 반영된다")
+    @SuppressWarnings("unchecked")
+    void flush_BatchesPerPost() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            buffer.increment(1L);
+        }
+        buffer.increment(2L);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+
+        Map<Object, Object> deltaByPostId = captor.getValue().stream()
+                .collect(Collectors.toMap(args -> args[1], args -> args[0]));
+        assertThat(deltaByPostId).containsEntry(1L, 3L).containsEntry(2L, 1L);
+
+        assertThat(flushed).isEqualTo(2);
+        assertThat(buffer.getPending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영한 증가분은 반영 전에(또는 복제 지연 구간 안에서) 읽은 페이지에만 계속 더한다")
+    void getPendingSince_KeepsFlushedDeltaForOlderPages() {
+        // given
+        long loadedBeforeFlush = System.currentTimeMillis() - 10_000;
+        buffer.increment(1L);
+        buffer.increment(1L);
+
+        // when
+        buffer.flush();
+        buffer.increment(1L);
+
+        // then: 캐시에 남은 예전 페이지는 반영분 2 + 미반영 1, 복제 지연이 지난 뒤 읽은 페이지는 미반영 1만
+        assertThat(buffer.getPendingSince(1L, loadedBeforeFlush)).isEqualTo(3L);
+        assertThat(buffer.getPendingSince(1L, System.currentTimeMillis())).isEqualTo(3L);
+        assertThat(buffer.getPendingSince(1L, System.currentTimeMillis() + 5_000)).isEqualTo(1L);
+        assertThat(buffer.getPendingSince(2L, loadedBeforeFlush)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분이 버퍼에 남아 다음 주기에 재시도된다")
+    void flush_FailureKeepsDelta() {
+        // given
+        buffer.increment(1L);
+        buffer.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        buffer.flush();
+        buffer.increment(1L);
+
+        // then: 배치 전체가 롤백되므로 꺼낸 증가분을 모두 다시 합쳐도 중복 반영되지 않음
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(buffer.getPending(1L)).isEqualTo(3L);
+        assertThat(buffer.getPendingSince(1L, 0L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 증가는 커밋된 경우에만 버퍼에 쌓인다")
+    void incrementAfterCommit_OnlyCommitted() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.incrementAfterCommit(1L);
+            buffer.incrementAfterCommit(2L);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // when: 커밋 전에는 쌓이지 않음
+            assertThat(buffer.getPending(1L)).isZero();
+            synchronizations.get(0).afterCommit();
+
+            // then: 커밋된 1번만 반영 (2번 트랜잭션은 롤백되어 afterCommit이 호출되지 않음)
+            assertThat(buffer.getPending(1L)).isEqualTo(1L);
+            assertThat(buffer.getPending(2L)).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면 DB에 접근하지 않는다")
+    void flush_Empty() {
+        assertThat(buffer.flush()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,38 @@
+package com.foodcom.firstpro.querystats;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * API별 쿼리 예산 검증용 MockMvc ResultMatcher.
+ * db.query-stats.header.enabled=true인 테스트 컨텍스트에서 {@link QueryStatsFilter}가 남긴 응답 헤더를 읽는다.
+ * <pre>
+ * mockMvc.perform(get("/posts/{postId}", postId))
+ *         .andExpect(QueryBudget.statementsAtMost(2));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher statementsAtMost(long maxStatements) {
+        return result -> assertThat(headerValue(result.getResponse().getHeader(QueryStatsFilter.COUNT_HEADER)))
+                .as("요청 하나에서 실행한 SQL 수")
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    public static ResultMatcher rowsAtMost(long maxRows) {
+        return result -> assertThat(headerValue(result.getResponse().getHeader(QueryStatsFilter.ROWS_HEADER)))
+                .as("요청 하나에서 읽거나 변경한 행 수")
+                .isLessThanOrEqualTo(maxRows);
+    }
+
+    private static long headerValue(String header) {
+        assertThat(header)
+                .as("쿼리 통계 헤더가 없습니다. db.query-stats.header.enabled=true로 실행해야 합니다.")
+                .isNotNull();
+        return Long.parseLong(header);
+    }
+}
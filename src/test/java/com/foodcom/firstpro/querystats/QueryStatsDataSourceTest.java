@@ -0,0 +1,61 @@
+package com.foodcom.firstpro.querystats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatsDataSourceTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new QueryStatsDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:query-stats;DB_CLOSE_DELAY=-1", "sa", ""), "SLAVE"));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.update("DELETE FROM item");
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.unbind();
+    }
+
+    @Test
+    @DisplayName("요청에 묶인 통계에 대상별 SQL 실행 수, 행 수, 같은 SQL 반복 횟수를 기록한다")
+    void recordsStatementsAndRows() {
+        // given
+        QueryStats stats = new QueryStats();
+        stats.bind();
+
+        // when: INSERT 3회(3행) + SELECT 1회(3행)
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO item (id) VALUES (?)", id);
+        }
+        jdbcTemplate.queryForList("SELECT id FROM item", Long.class);
+
+        // then
+        assertThat(stats.byTarget()).containsOnlyKeys("SLAVE");
+        assertThat(stats.statements()).isEqualTo(4);
+        assertThat(stats.rows()).isEqualTo(6);
+        assertThat(stats.mostRepeated().getKey()).isEqualTo("INSERT INTO item (id) VALUES (?)");
+        assertThat(stats.mostRepeated().getValue()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행한 SQL은 기록하지 않는다")
+    void ignoresWithoutRequest() {
+        // given
+        QueryStats stats = new QueryStats();
+
+        // when
+        jdbcTemplate.update("INSERT INTO item (id) VALUES (?)", 1L);
+
+        // then
+        assertThat(stats.statements()).isZero();
+    }
+}
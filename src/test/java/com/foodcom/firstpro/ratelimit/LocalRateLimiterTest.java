@@ -0,0 +1,48 @@
+package com.foodcom.firstpro.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    private final LocalRateLimiter limiter = new LocalRateLimiter(new RateLimitProperties());
+    private final RateLimitProperties.Rule rule =
+            new RateLimitProperties.Rule("test", "POST", "/test", 2, 1, Duration.ofSeconds(1));
+
+    @Test
+    @DisplayName("토큰 버킷 - 버킷 크기만큼 허용하고, 이후에는 다음 토큰까지 남은 시간을 돌려준다")
+    void tryAcquire_Burst() {
+        // given
+        long now = 0;
+
+        // when & then
+        assertThat(limiter.tryAcquire(rule, "ip:1", now)).isZero();
+        assertThat(limiter.tryAcquire(rule, "ip:1", now)).isZero();
+        assertThat(limiter.tryAcquire(rule, "ip:1", now)).isEqualTo(1000);
+
+        // 다른 키는 별도 버킷
+        assertThat(limiter.tryAcquire(rule, "ip:2", now)).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 - 시간이 지나면 채워지고 버킷 크기를 넘지 않는다")
+    void tryAcquire_Refill() {
+        // given
+        long now = 0;
+        limiter.tryAcquire(rule, "ip:1", now);
+        limiter.tryAcquire(rule, "ip:1", now);
+
+        // when & then
+        assertThat(limiter.tryAcquire(rule, "ip:1", Duration.ofMillis(500).toNanos())).isEqualTo(500);
+        assertThat(limiter.tryAcquire(rule, "ip:1", Duration.ofSeconds(1).toNanos())).isZero();
+
+        long later = Duration.ofMinutes(1).toNanos();
+        assertThat(limiter.tryAcquire(rule, "ip:1", later)).isZero();
+        assertThat(limiter.tryAcquire(rule, "ip:1", later)).isZero();
+        assertThat(limiter.tryAcquire(rule, "ip:1", later)).isPositive();
+    }
+}
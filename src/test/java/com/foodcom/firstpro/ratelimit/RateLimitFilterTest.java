@@ -0,0 +1,121 @@
+package com.foodcom.firstpro.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisRateLimiter redisRateLimiter = mock(RedisRateLimiter.class);
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(
+                new RateLimitProperties.Rule("login", "POST", "/login", 2, 1, Duration.ofMinutes(1))));
+
+        filter = new RateLimitFilter(properties, new LocalRateLimiter(properties), redisRateLimiter,
+                meterRegistry, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 한도를 넘으면 다음 필터로 넘기지 않고 429와 Retry-After를 돌려준다")
+    void doFilter_Throttled() throws Exception {
+        // when
+        int first = perform("POST", "/login", "10.0.0.1").getStatus();
+        int second = perform("POST", "/login", "10.0.0.1").getStatus();
+        MockHttpServletResponse third = perform("POST", "/login", "10.0.0.1");
+
+        // then
+        assertThat(first).isEqualTo(200);
+        assertThat(second).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(third.getContentAsString()).contains("요청 한도 초과");
+
+        // 다른 IP는 별도 버킷
+        assertThat(perform("POST", "/login", "10.0.0.2").getStatus()).isEqualTo(200);
+
+        assertThat(meterRegistry.get("http.rate-limit.throttled").tag("rule", "login").tag("tier", "local")
+                .counter().count()).isEqualTo(1);
+        // 전역 한도는 기본 비활성화
+        verifyNoInteractions(redisRateLimiter);
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 인증된 요청은 IP가 달라도 사용자 단위로 제한한다")
+    void doFilter_PerPrincipal() throws Exception {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "testuser", "", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        // when
+        perform("POST", "/login", "10.0.0.1");
+        perform("POST", "/login", "10.0.0.2");
+
+        // then
+        assertThat(perform("POST", "/login", "10.0.0.3").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 인증된 요청도 IP 버킷을 함께 확인해 계정을 바꿔도 같은 IP는 제한한다")
+    void doFilter_PerIpAndPrincipal() throws Exception {
+        // when
+        authenticate("user1");
+        perform("POST", "/login", "10.0.0.1");
+        authenticate("user2");
+        perform("POST", "/login", "10.0.0.1");
+        authenticate("user3");
+        MockHttpServletResponse third = perform("POST", "/login", "10.0.0.1");
+
+        // then: 사용자 버킷은 모두 남아 있지만 IP 버킷이 비어 거절
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(perform("POST", "/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 규칙에 없는 요청은 제한하지 않는다")
+    void doFilter_NoRule() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(perform("GET", "/login", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(perform("POST", "/members", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticate(String loginId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                loginId, "", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
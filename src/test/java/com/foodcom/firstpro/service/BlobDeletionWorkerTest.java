@@ -0,0 +1,66 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.storage.BlobDeletionOutbox;
+import com.foodcom.firstpro.repository.BlobDeletionOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BlobDeletionWorkerTest {
+
+    @Test
+    @DisplayName("Outbox 처리 - 삭제된 항목은 지우고 실패한 항목은 백오프 후 재시도하도록 남긴다")
+    @SuppressWarnings("unchecked")
+    void drain_DeletesAndBacksOff() {
+        // given
+        BlobDeletionOutboxRepository outboxRepository = mock(BlobDeletionOutboxRepository.class);
+        StorageService storageService = mock(StorageService.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        BlobDeletionOutbox ok = entry(1L, "https://cdn/ok.jpg");
+        BlobDeletionOutbox failing = entry(2L, "https://cdn/failing.jpg");
+
+        when(outboxRepository.findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(any()))
+                .thenReturn(List.of(ok, failing));
+        when(storageService.deleteFiles(List.of("https://cdn/ok.jpg", "https://cdn/failing.jpg")))
+                .thenReturn(List.of("https://cdn/failing.jpg"));
+        when(outboxRepository.count()).thenReturn(1L);
+
+        BlobDeletionWorker worker = new BlobDeletionWorker(outboxRepository, storageService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                Duration.ofSeconds(10), Duration.ofHours(1), 10);
+
+        // when
+        int deleted = worker.drain();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+
+        ArgumentCaptor<List<BlobDeletionOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(failing);
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(5));
+
+        assertThat(meterRegistry.get("blob.deletion.outbox.depth").gauge().value()).isEqualTo(1.0);
+    }
+
+    private BlobDeletionOutbox entry(Long id, String url) {
+        BlobDeletionOutbox entry = new BlobDeletionOutbox(url);
+        ReflectionTestUtils.setField(entry, "id", id);
+        return entry;
+    }
+}
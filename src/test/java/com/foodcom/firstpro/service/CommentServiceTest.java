@@ -0,0 +1,74 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.auth.exception.LoginFailureException;
+import com.foodcom.firstpro.domain.comment.CommentCreateDto;
+import com.foodcom.firstpro.domain.member.Gender;
+import com.foodcom.firstpro.domain.member.Member;
+import com.foodcom.firstpro.domain.post.Post;
+import com.foodcom.firstpro.repository.CommentRepository;
+import com.foodcom.firstpro.repository.MemberRepository;
+import com.foodcom.firstpro.repository.PostRepository;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CommentServiceTest {
+
+    @MockitoBean
+    private Storage storage;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 토큰의 회원이 없으면 FK 위반(409) 대신 회원 정보 없음으로 응답한다")
+    void createComment_MissingMember() {
+        // given
+        Member writer = memberRepository.save(Member.builder()
+                .loginId("writer")
+                .password("password")
+                .username("Writer")
+                .age(25)
+                .gender(Gender.MALE)
+                .build());
+        Post post = postRepository.save(Post.builder()
+                .title("Title")
+                .content("Content")
+                .member(writer)
+                .build());
+
+        CommentCreateDto createDto = new CommentCreateDto();
+        ReflectionTestUtils.setField(createDto, "content", "맛있겠어요");
+
+        // when & then: findReference는 조회 없이 참조만 만들므로 INSERT에서 FK 위반이 난다
+        assertThatThrownBy(() -> commentService.createComment(post.getId(), createDto, Long.MAX_VALUE, "ghost"))
+                .isInstanceOf(LoginFailureException.class)
+                .hasMessage("회원 정보를 찾을 수 없습니다.");
+        assertThat(commentRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,136 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.post.Image;
+import com.foodcom.firstpro.repository.BlobContentRepository;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ImageContentIndexTest {
+
+    @MockitoBean
+    private Storage storage;
+
+    @Autowired
+    private ImageContentIndex imageContentIndex;
+
+    @Autowired
+    private BlobContentRepository blobContentRepository;
+
+    @Test
+    @DisplayName("해시 - 파일 이름과 무관하게 내용이 같으면 같은 SHA-256")
+    void hash_SameContent() throws Exception {
+        byte[] content = "same image".getBytes(StandardCharsets.UTF_8);
+
+        String first = imageContentIndex.hash(new MockMultipartFile("files", "a.jpg", "image/jpeg", content));
+        String second = imageContentIndex.hash(new MockMultipartFile("files", "b.jpg", "image/jpeg", content));
+
+        assertThat(first).hasSize(64).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("참조 수 - 마지막 Image가 반납될 때만 파일 URL을 돌려주고 인덱스에서 지운다")
+    void release_OnlyWhenLastReferenceIsGone() {
+        // given: 한 번 업로드 + 두 번 재사용 -> 참조 3
+        String hash = "a".repeat(64);
+        assertThat(imageContentIndex.find(hash, "first.jpg")).isEmpty();
+
+        Image original = newlyUploaded("https://cdn/orig.jpg", "https://cdn/orig_w320.jpg", hash);
+        imageContentIndex.acquire(List.of(original));
+
+        Image second = imageContentIndex.find(hash, "second.jpg").orElseThrow();
+        Image third = imageContentIndex.find(hash, "third.jpg").orElseThrow();
+        imageContentIndex.acquire(List.of(second, third));
+
+        assertThat(second.getUrl()).isEqualTo("https://cdn/orig.jpg");
+        assertThat(second.getThumbnailUrl()).isEqualTo("https://cdn/orig_w320.jpg");
+        assertThat(second.getFilename()).isEqualTo("second.jpg");
+
+        // when & then
+        assertThat(imageContentIndex.release(List.of(original, second))).isEmpty();
+        assertThat(blobContentRepository.findByContentHash(hash)).isPresent();
+
+        assertThat(imageContentIndex.release(List.of(third)))
+                .containsExactly("https://cdn/orig.jpg", "https://cdn/orig_w320.jpg");
+        assertThat(blobContentRepository.findByContentHash(hash)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("참조 획득 - 조회만으로는 참조 수가 오르지 않는다")
+    void find_DoesNotTakeReference() {
+        String hash = "b".repeat(64);
+        imageContentIndex.acquire(List.of(newlyUploaded("https://cdn/b.jpg", null, hash)));
+
+        imageContentIndex.find(hash, "again.jpg").orElseThrow();
+
+        assertThat(blobContentRepository.findByContentHash(hash).orElseThrow().getRefCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참조 획득 - 같은 내용이 먼저 등록됐으면 새로 올린 파일은 인덱스 없이 단독으로 쓴다")
+    void acquire_DetachesDuplicateUpload() {
+        String hash = "c".repeat(64);
+        Image first = newlyUploaded("https://cdn/c1.jpg", null, hash);
+        Image second = newlyUploaded("https://cdn/c2.jpg", null, hash);
+
+        imageContentIndex.acquire(List.of(first, second));
+
+        assertThat(first.getContentHash()).isEqualTo(hash);
+        assertThat(second.getContentHash()).isNull();
+        assertThat(blobContentRepository.findByContentHash(hash).orElseThrow().getUrl()).isEqualTo("https://cdn/c1.jpg");
+    }
+
+    @Test
+    @DisplayName("참조 획득 - 조회 이후 마지막 참조가 반납돼 지워진 파일은 재사용하지 않고 저장을 실패시킨다")
+    void acquire_FailsWhenReusedContentWasDeleted() {
+        String hash = "d".repeat(64);
+        Image original = newlyUploaded("https://cdn/d.jpg", null, hash);
+        imageContentIndex.acquire(List.of(original));
+        Image reused = imageContentIndex.find(hash, "reused.jpg").orElseThrow();
+
+        imageContentIndex.release(List.of(original));
+
+        assertThatThrownBy(() -> imageContentIndex.acquire(List.of(reused)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("참조 획득 - 게시물 저장 트랜잭션 밖에서는 호출할 수 없다")
+    void acquire_RequiresTransaction() {
+        Image image = newlyUploaded("https://cdn/e.jpg", null, "e".repeat(64));
+
+        assertThatThrownBy(() -> imageContentIndex.acquire(List.of(image)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(blobContentRepository.existsByContentHash("e".repeat(64))).isFalse();
+    }
+
+    @Test
+    @DisplayName("참조 수 - 인덱스 없이 저장된 이미지는 바로 삭제 대상")
+    void release_WithoutContentHash() {
+        Image legacy = Image.builder().url("https://cdn/legacy.jpg").build();
+
+        assertThat(imageContentIndex.release(List.of(legacy))).containsExactly("https://cdn/legacy.jpg");
+    }
+
+    private Image newlyUploaded(String url, String thumbnailUrl, String contentHash) {
+        Image image = Image.builder().url(url).thumbnailUrl(thumbnailUrl).contentHash(contentHash).build();
+        image.markNewlyUploaded();
+        return image;
+    }
+}
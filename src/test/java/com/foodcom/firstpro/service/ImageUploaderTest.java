@@ -0,0 +1,129 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.post.Image;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImageUploaderTest {
+
+    private static final int MAX_CONCURRENCY = 3;
+
+    private StorageService storageService;
+    private ImageContentIndex imageContentIndex;
+    private ImageUploader imageUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storageService = mock(StorageService.class);
+        ImageVariantGenerator imageVariantGenerator = mock(ImageVariantGenerator.class);
+        when(imageVariantGenerator.generate(any(), anyString())).thenReturn(ImageVariantGenerator.Variants.NONE);
+        imageContentIndex = mock(ImageContentIndex.class);
+        when(imageContentIndex.hash(any())).thenAnswer(invocation ->
+                ((MultipartFile) invocation.getArgument(0)).getOriginalFilename());
+        when(imageContentIndex.find(anyString(), anyString())).thenReturn(Optional.empty());
+        imageUploader = new ImageUploader(storageService, imageVariantGenerator, imageContentIndex, MAX_CONCURRENCY);
+    }
+
+    @Test
+    @DisplayName("동시 업로드 - 동시 실행 수는 제한되고 결과는 입력 순서를 유지한다")
+    void uploadAll_PreservesOrder() throws Exception {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        when(storageService.uploadFile(any(), anyString())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                // 앞쪽 파일일수록 늦게 끝나도록 해서 완료 순서와 입력 순서를 다르게 만듦
+                int index = Integer.parseInt(file.getOriginalFilename().replace(".jpg", ""));
+                Thread.sleep(10L * (10 - index));
+            } finally {
+                running.decrementAndGet();
+            }
+            return "http://dummy-url.com/" + file.getOriginalFilename();
+        });
+
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            files.add(image(i + ".jpg"));
+        }
+
+        // when
+        List<Image> images = imageUploader.uploadAll(files, "post-images/1");
+
+        // then
+        assertThat(images).extracting(Image::getFilename)
+                .containsExactly("0.jpg", "1.jpg", "2.jpg", "3.jpg", "4.jpg", "5.jpg", "6.jpg", "7.jpg", "8.jpg", "9.jpg");
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+
+    @Test
+    @DisplayName("중복 제거 - 같은 내용의 이미지가 이미 있으면 업로드하지 않고 기존 파일을 재사용한다")
+    void uploadAll_ReusesExistingContent() throws Exception {
+        // given
+        when(imageContentIndex.find(eq("dup.jpg"), anyString())).thenReturn(Optional.of(Image.builder()
+                .url("http://dummy-url.com/existing.jpg")
+                .filename("dup.jpg")
+                .contentHash("dup.jpg")
+                .build()));
+        when(storageService.uploadFile(any(), anyString())).thenAnswer(invocation ->
+                "http://dummy-url.com/" + ((MultipartFile) invocation.getArgument(0)).getOriginalFilename());
+
+        // when
+        List<Image> images = imageUploader.uploadAll(List.of(image("dup.jpg"), image("new.jpg")), "post-images/1");
+
+        // then
+        assertThat(images).extracting(Image::getUrl)
+                .containsExactly("http://dummy-url.com/existing.jpg", "http://dummy-url.com/new.jpg");
+        assertThat(images).extracting(Image::getContentHash)
+                .containsExactly("dup.jpg", "new.jpg");
+        assertThat(images).extracting(Image::isNewlyUploaded)
+                .containsExactly(false, true);
+        verify(storageService, times(1)).uploadFile(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("동시 업로드 - 하나라도 실패하면 이미 업로드된 파일을 삭제하고 예외를 던진다")
+    void uploadAll_CompensatesOnFailure() throws Exception {
+        // given
+        when(storageService.uploadFile(any(), anyString())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            if ("bad.jpg".equals(file.getOriginalFilename())) {
+                throw new IOException("GCS 오류");
+            }
+            return "http://dummy-url.com/" + file.getOriginalFilename();
+        });
+
+        List<MultipartFile> files = List.of(image("a.jpg"), image("bad.jpg"), image("b.jpg"));
+
+        // when & then
+        assertThatThrownBy(() -> imageUploader.uploadAll(files, "post-images/1"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("GCS 오류");
+
+        verify(storageService).deleteFile("http://dummy-url.com/a.jpg");
+        verify(storageService).deleteFile("http://dummy-url.com/b.jpg");
+        verify(storageService, times(2)).deleteFile(anyString());
+    }
+
+    private MockMultipartFile image(String filename) {
+        return new MockMultipartFile("files", filename, "image/jpeg", new byte[]{1, 2, 3});
+    }
+}
@@ -0,0 +1,145 @@
+package com.foodcom.firstpro.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImageVariantGeneratorTest {
+
+    private StorageService storageService;
+    private ImageVariantGenerator generator;
+
+    // 업로드된 리사이즈본의 너비 (파일 이름 -> 너비)
+    private final Map<String, Integer> uploadedWidths = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        storageService = mock(StorageService.class);
+        when(storageService.uploadBytes(any(), anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            byte[] content = invocation.getArgument(0);
+            String filename = invocation.getArgument(2);
+            uploadedWidths.put(filename, ImageIO.read(new ByteArrayInputStream(content)).getWidth());
+            return "http://dummy-url.com/" + filename;
+        });
+
+        generator = generator(8_000_000, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    @DisplayName("리사이즈 - 썸네일과 상세 이미지를 목표 너비로 만들어 업로드한다")
+    void generate_CreatesVariants() throws Exception {
+        // given
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(4000, 2000, BufferedImage.TYPE_INT_ARGB), "png", png);
+        MockMultipartFile file = new MockMultipartFile("files", "food.png", "image/png", png.toByteArray());
+
+        // when
+        ImageVariantGenerator.Variants variants = generator.generate(file, "post-images/1");
+
+        // then
+        assertThat(variants.getThumbnailUrl()).isEqualTo("http://dummy-url.com/food_w320.jpg");
+        assertThat(variants.getDetailUrl()).isEqualTo("http://dummy-url.com/food_w1080.jpg");
+        assertThat(uploadedWidths).containsEntry("food_w320.jpg", 320).containsEntry("food_w1080.jpg", 1080);
+    }
+
+    @Test
+    @DisplayName("리사이즈 - 이미지로 읽을 수 없는 파일은 원본만 사용한다")
+    void generate_UnsupportedFormat() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("files", "note.txt", "text/plain", new byte[]{1, 2, 3});
+
+        // when
+        ImageVariantGenerator.Variants variants = generator.generate(file, "post-images/1");
+
+        // then
+        assertThat(variants.getThumbnailUrl()).isNull();
+        assertThat(variants.getDetailUrl()).isNull();
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    @DisplayName("리사이즈 - 가로 x 세로가 max-pixels를 넘는 이미지는 디코딩하지 않고 원본만 사용한다")
+    void generate_TooManyPixels() throws Exception {
+        // given: 좁고 긴 이미지 (너비만 보면 서브샘플링 대상이 아님)
+        MockMultipartFile file = new MockMultipartFile("files", "tall.png", "image/png", png(1000, 10_000));
+
+        // when
+        ImageVariantGenerator.Variants variants = generator.generate(file, "post-images/1");
+
+        // then
+        assertThat(variants.getThumbnailUrl()).isNull();
+        assertThat(variants.getDetailUrl()).isNull();
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    @DisplayName("리사이즈 - timeout이 지나면 원본으로 응답하고, 늦게 끝난 리사이즈본은 삭제한다")
+    void generate_Timeout() throws Exception {
+        // given
+        generator.shutdown();
+        generator = generator(8_000_000, Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            // 취소 인터럽트를 받아도 업로드는 끝까지 진행되는 경우
+            awaitUninterruptibly(release);
+            return "http://dummy-url.com/" + invocation.getArgument(2);
+        }).when(storageService).uploadBytes(any(), anyString(), anyString(), anyString());
+        MockMultipartFile file = new MockMultipartFile("files", "slow.png", "image/png", png(800, 600));
+
+        // when
+        ImageVariantGenerator.Variants variants = generator.generate(file, "post-images/1");
+        release.countDown();
+
+        // then
+        assertThat(variants.getThumbnailUrl()).isNull();
+        assertThat(variants.getDetailUrl()).isNull();
+        verify(storageService, timeout(5000)).deleteFile("http://dummy-url.com/slow_w320.jpg");
+        verify(storageService, timeout(5000)).deleteFile("http://dummy-url.com/slow_w1080.jpg");
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ImageVariantGenerator generator(long maxPixels, Duration timeout) {
+        return new ImageVariantGenerator(storageService, new SimpleMeterRegistry(), 320, 1080, 1, 4, maxPixels, timeout);
+    }
+
+    private byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", png);
+        return png.toByteArray();
+    }
+}
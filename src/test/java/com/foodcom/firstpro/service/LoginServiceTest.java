@@ -0,0 +1,69 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.member.Gender;
+import com.foodcom.firstpro.domain.member.MemberJoinDTO;
+import com.foodcom.firstpro.repository.MemberRepository;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@SpringBootTest
+class LoginServiceTest {
+
+    @MockitoBean
+    private Storage storage;
+
+    @MockitoSpyBean
+    private PasswordEncoder encoder;
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("회원가입 - 비밀번호 해시는 트랜잭션(커넥션) 밖에서 끝내고 해시된 값을 저장한다")
+    void join_HashesOutsideTransaction() {
+        // given
+        List<Boolean> transactionActive = new ArrayList<>();
+        willAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).given(encoder).encode(any());
+
+        MemberJoinDTO joinDTO = new MemberJoinDTO();
+        joinDTO.setLoginId("joinuser");
+        joinDTO.setPassword("password1234");
+        joinDTO.setUsername("Join User");
+        joinDTO.setGender(Gender.MALE);
+        joinDTO.setAge(25);
+
+        // when
+        loginService.join(joinDTO);
+
+        // then
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(memberRepository.findByLoginId("joinuser"))
+                .hasValueSatisfying(member -> assertThat(encoder.matches("password1234", member.getPassword())).isTrue());
+    }
+}
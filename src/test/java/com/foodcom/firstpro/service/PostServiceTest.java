@@ -0,0 +1,121 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.comment.Comment;
+import com.foodcom.firstpro.domain.member.Gender;
+import com.foodcom.firstpro.domain.member.Member;
+import com.foodcom.firstpro.domain.post.Image;
+import com.foodcom.firstpro.domain.post.Post;
+import com.foodcom.firstpro.domain.post.PostResponseDto;
+import com.foodcom.firstpro.repository.CommentRepository;
+import com.foodcom.firstpro.repository.MemberRepository;
+import com.foodcom.firstpro.repository.PostRepository;
+import com.google.cloud.storage.Storage;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostServiceTest {
+
+    @MockitoBean
+    private Storage storage;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("게시물 상세 조회 - 댓글 500개여도 쿼리 수가 고정되어야 한다 (N+1 방지)")
+    void getPostInfo_ConstantStatementCount() {
+        // given
+        Member writer = memberRepository.save(Member.builder()
+                .loginId("writer")
+                .password("password")
+                .username("Writer")
+                .age(25)
+                .gender(Gender.MALE)
+                .build());
+
+        Post post = Post.builder()
+                .title("Popular Post")
+                .content("Content")
+                .member(writer)
+                .build();
+        post.addImage(Image.builder().url("http://dummy-url.com/1.jpg").filename("1.jpg").build());
+        post.addImage(Image.builder().url("http://dummy-url.com/2.jpg").filename("2.jpg").build());
+        postRepository.save(post);
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Member commenter = memberRepository.save(Member.builder()
+                    .loginId("commenter" + i)
+                    .password("password")
+                    .username("Commenter " + i)
+                    .age(20)
+                    .gender(Gender.FEMALE)
+                    .build());
+
+            comments.add(Comment.builder()
+                    .content("Comment " + i)
+                    .post(post)
+                    .member(commenter)
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+
+        // 1차 캐시를 비워서 실제 조회 쿼리가 나가도록 함
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        PostResponseDto response = postService.getPostInfo(post.getId());
+
+        // then
+        assertThat(response.getImageUrls()).hasSize(2);
+        assertThat(response.getComments()).hasSize(CommentService.DEFAULT_PAGE_SIZE);
+        assertThat(response.getComments().get(0).getWriter()).isEqualTo("commenter0");
+        assertThat(response.getCommentsNextCursor()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("게시물 작성 - 토큰의 회원이 없으면 FK 위반(409) 대신 존재하지 않는 사용자로 응답한다")
+    void createPostFromUploads_MissingMember() {
+        // when & then: findReference는 조회 없이 참조만 만들므로 INSERT에서 FK 위반이 난다
+        assertThatThrownBy(() -> postService.createPostFromUploads("Title", "Content", List.of(), Long.MAX_VALUE, "ghost"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 사용자입니다.");
+        assertThat(postRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,81 @@
+package com.foodcom.firstpro.service;
+
+import com.foodcom.firstpro.domain.member.Gender;
+import com.foodcom.firstpro.domain.member.Member;
+import com.foodcom.firstpro.domain.member.MemberUpdateDto;
+import com.foodcom.firstpro.repository.MemberRepository;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@SpringBootTest
+class UserServiceTest {
+
+    @MockitoBean
+    private Storage storage;
+
+    @MockitoSpyBean
+    private PasswordEncoder encoder;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("회원정보 수정 - 비밀번호 비교/해시는 트랜잭션(커넥션) 밖에서 끝내고 변경만 저장한다")
+    void updateMyInfo_HashesOutsideTransaction() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .loginId("updateuser")
+                .password(encoder.encode("password1234"))
+                .username("Before")
+                .age(25)
+                .gender(Gender.MALE)
+                .build());
+
+        List<Boolean> transactionActive = new ArrayList<>();
+        willAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).given(encoder).matches(any(), any());
+        willAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).given(encoder).encode(any());
+
+        MemberUpdateDto updateDto = new MemberUpdateDto();
+        ReflectionTestUtils.setField(updateDto, "newName", "After");
+        ReflectionTestUtils.setField(updateDto, "newPassword", "newpassword1234");
+
+        // when
+        userService.updateMyInfo(member.getId(), "updateuser", updateDto);
+
+        // then
+        assertThat(transactionActive).containsExactly(false, false);
+        Member updated = memberRepository.findById(member.getId()).orElseThrow();
+        assertThat(updated.getUsername()).isEqualTo("After");
+        assertThat(encoder.matches("newpassword1234", updated.getPassword())).isTrue();
+    }
+}
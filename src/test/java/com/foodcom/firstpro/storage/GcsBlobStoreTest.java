@@ -0,0 +1,80 @@
+package com.foodcom.firstpro.storage;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GcsBlobStoreTest {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private Storage storage;
+    private WriteChannel writeChannel;
+    private SimpleMeterRegistry meterRegistry;
+    private GcsBlobStore gcsBlobStore;
+
+    private final List<Integer> writeSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = mock(Storage.class);
+        writeChannel = mock(WriteChannel.class);
+        when(storage.writer(any(BlobInfo.class))).thenReturn(writeChannel);
+        when(writeChannel.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer buffer = invocation.getArgument(0);
+            int remaining = buffer.remaining();
+            writeSizes.add(remaining);
+            buffer.position(buffer.limit());
+            return remaining;
+        });
+
+        meterRegistry = new SimpleMeterRegistry();
+        gcsBlobStore = new GcsBlobStore(storage, meterRegistry, "test-bucket", "https://34-49-218-153.nip.io/",
+                BUFFER_SIZE, 256 * 1024, 4);
+    }
+
+    @Test
+    @DisplayName("업로드 - 파일 전체를 메모리에 올리지 않고 고정 크기 버퍼로 나눠 스트리밍한다")
+    void write_Streaming() throws Exception {
+        // given
+        byte[] content = new byte[1024 * 1024 + 123];
+
+        // when
+        long written = gcsBlobStore.write("post-images/1/uuid-big.jpg", "image/jpeg", new ByteArrayInputStream(content));
+
+        // then
+        assertThat(written).isEqualTo(content.length);
+        assertThat(writeSizes).allMatch(size -> size <= BUFFER_SIZE);
+        assertThat(writeSizes.stream().mapToLong(Integer::longValue).sum()).isEqualTo(content.length);
+
+        verify(writeChannel).setChunkSize(256 * 1024);
+        verify(writeChannel).close();
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+
+        assertThat(meterRegistry.get("storage.upload.buffer.in-use").gauge().value()).isZero();
+        assertThat(meterRegistry.get("storage.upload.buffer.peak").gauge().value())
+                .isEqualTo(BUFFER_SIZE + 256 * 1024);
+    }
+
+    @Test
+    @DisplayName("URL 변환 - 공개 URL과 기존 URL 형식은 키로 바꾸고, 다른 저장소의 URL은 null")
+    void keyOf() {
+        assertThat(gcsBlobStore.publicUrl("post-images/1/a.jpg")).isEqualTo("https://34-49-218-153.nip.io/post-images/1/a.jpg");
+        assertThat(gcsBlobStore.keyOf("https://34-49-218-153.nip.io/post-images/1/a.jpg")).isEqualTo("post-images/1/a.jpg");
+        assertThat(gcsBlobStore.keyOf("https://storage.googleapis.com/test-bucket/post-images/1/a.jpg")).isEqualTo("post-images/1/a.jpg");
+        assertThat(gcsBlobStore.keyOf("/files/post-images/1/a.jpg")).isNull();
+    }
+}
@@ -0,0 +1,36 @@
+package com.foodcom.firstpro.storage;
+
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class GcsUploadUrlSignerTest {
+
+    @Test
+    @DisplayName("GCS 서명 URL - 객체가 없을 때만 생성되도록 generation-match 0 헤더를 요구한다")
+    void sign_CreateOnly() throws Exception {
+        // given
+        Storage storage = mock(Storage.class);
+        given(storage.signUrl(any(BlobInfo.class), anyLong(), any(), any(Storage.SignUrlOption[].class)))
+                .willReturn(URI.create("https://storage.googleapis.com/test-bucket/key?X-Goog-Signature=abc").toURL());
+        GcsUploadUrlSigner signer = new GcsUploadUrlSigner(storage, "test-bucket");
+
+        // when
+        SignedUpload signed = signer.sign("post-images/uploads/u/key.jpg", "image/jpeg", 100, Duration.ofMinutes(10));
+
+        // then
+        assertThat(signed.getHeaders())
+                .containsEntry("x-goog-if-generation-match", "0")
+                .containsEntry("x-goog-content-length-range", "0,100");
+    }
+}
@@ -0,0 +1,154 @@
+package com.foodcom.firstpro.storage;
+
+import com.foodcom.firstpro.service.StorageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "storage.backend=local")
+@AutoConfigureMockMvc
+class LocalBlobStoreTest {
+
+    @TempDir
+    static Path rootDir;
+
+    @DynamicPropertySource
+    static void localStorageProperties(DynamicPropertyRegistry registry) {
+        registry.add("storage.local.root-dir", () -> rootDir.toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private LocalBlobStore localBlobStore;
+
+    @Autowired
+    private LocalUploadUrlSigner localUploadUrlSigner;
+
+    @Test
+    @DisplayName("로컬 저장소 - 업로드한 파일을 /files/** 로 내려받고, Range 요청에는 206으로 일부만 응답한다")
+    void uploadAndServe() throws Exception {
+        // given
+        byte[] bytes = "0123456789".getBytes(StandardCharsets.UTF_8);
+        String url = storageService.uploadBytes(bytes, "post-images/1", "a.txt", "text/plain");
+        assertThat(url).startsWith("/files/post-images/1/");
+
+        // when & then
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(bytes));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 - 삭제한 파일은 404, 이미 없는 파일은 삭제 성공으로 본다")
+    void deleteFiles() throws Exception {
+        // given
+        String url = storageService.uploadBytes(new byte[]{1, 2, 3}, "post-images/2", "b.jpg", "image/jpeg");
+        Path path = localBlobStore.resolve(localBlobStore.keyOf(url));
+        assertThat(Files.exists(path)).isTrue();
+
+        // when
+        List<String> failed = storageService.deleteFiles(List.of(url, "/files/post-images/2/missing.jpg"));
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(Files.exists(path)).isFalse();
+        mockMvc.perform(get(url))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 - 서명된 URL로만 PUT 업로드할 수 있고, 서명과 다른 Content-Type이나 허용 크기 초과, 이미 올린 파일 덮어쓰기는 거절한다")
+    void signedUpload() throws Exception {
+        // given
+        String key = "post-images/uploads/testuser/550e8400-e29b-41d4-a716-446655440000-pasta plate.jpg";
+        SignedUpload signed = localUploadUrlSigner.sign(key, "image/jpeg", 5, Duration.ofMinutes(1));
+        URI url = URI.create(signed.getUrl());
+
+        // when & then
+        mockMvc.perform(put(url).contentType(MediaType.IMAGE_PNG).content(new byte[]{1, 2, 3}))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(put(url).contentType(MediaType.IMAGE_JPEG).content(new byte[]{1, 2, 3, 4, 5, 6}))
+                .andExpect(status().isPayloadTooLarge());
+
+        mockMvc.perform(put(url).contentType(MediaType.IMAGE_JPEG).content(new byte[]{1, 2, 3}))
+                .andExpect(status().isOk());
+
+        // 만료 전이라도 같은 URL로 다시 올려 이미 올린 파일을 바꿀 수 없음
+        mockMvc.perform(put(url).contentType(MediaType.IMAGE_JPEG).content(new byte[]{9, 9}))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(localBlobStore.exists(key)).isTrue();
+        assertThat(Files.readAllBytes(localBlobStore.resolve(key))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 - 키 확장자는 Content-Type으로 정하고, 이미지가 아닌 파일은 다운로드로, 임시 파일은 404로 응답한다")
+    void serve_OnlyImageTypes() throws Exception {
+        // given: 이미지로 선언한 HTML 파일 이름
+        String url = storageService.uploadBytes(new byte[]{1, 2, 3}, "post-images/3", "x.html", "image/png");
+        localBlobStore.write("post-images/3/evil.html", "text/html", "<script>".getBytes(StandardCharsets.UTF_8));
+        Files.write(localBlobStore.resolve("post-images/3/.upload-123.tmp"), new byte[]{1});
+
+        // when & then
+        assertThat(url).endsWith("-x.png");
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+
+        mockMvc.perform(get("/files/post-images/3/evil.html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+
+        mockMvc.perform(get("/files/post-images/3/.upload-123.tmp"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 - 루트 디렉터리 밖을 가리키는 키는 거부한다")
+    void resolve_RejectsTraversal() {
+        assertThatThrownBy(() -> localBlobStore.resolve("../outside.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}